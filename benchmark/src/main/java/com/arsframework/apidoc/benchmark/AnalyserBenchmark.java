@@ -0,0 +1,43 @@
+package com.arsframework.apidoc.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.arsframework.apidoc.core.Api;
+import com.arsframework.apidoc.core.MethodAnalyser;
+import com.arsframework.apidoc.core.Parameter;
+import com.arsframework.apidoc.core.ParameterAnalyser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Method and parameter analyser benchmark
+ *
+ * @author Woody
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AnalyserBenchmark {
+    @Benchmark
+    public List<Parameter> getParameters(AnalysisState state) {
+        return new ParameterAnalyser(state.getContext(), state.method).getParameters();
+    }
+
+    @Benchmark
+    public Parameter getReturned(AnalysisState state) {
+        return new ParameterAnalyser(state.getContext(), state.method).getReturned();
+    }
+
+    @Benchmark
+    public Api parse(AnalysisState state) {
+        return new MethodAnalyser(state.getContext(), state.method).parse();
+    }
+}
@@ -0,0 +1,98 @@
+package com.arsframework.apidoc.benchmark;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import com.arsframework.apidoc.core.AnalysisContext;
+import com.arsframework.apidoc.core.ClassComment;
+import com.arsframework.apidoc.core.Configuration;
+import com.arsframework.apidoc.core.SchemaCache;
+import com.arsframework.apidoc.core.SourceCommentExtractor;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Analysis benchmark state
+ *
+ * @author Woody
+ */
+@State(Scope.Benchmark)
+public class AnalysisState {
+    /**
+     * Sample source files which are packaged as resources, their comments are provided to the analysis
+     */
+    private static final String[] SOURCES = {"SampleController.java", "SampleModels.java"};
+
+    /**
+     * Sample api method name
+     */
+    @Param({"deep", "wide", "generic", "recursive", "enums", "built"})
+    public String api;
+
+    /**
+     * Whether the parameter schema cache is shared between invocations
+     */
+    @Param({"false", "true"})
+    public boolean cached;
+
+    /**
+     * Sample api method
+     */
+    public Method method;
+
+    /**
+     * Shared analysis context
+     */
+    public AnalysisContext context;
+
+    /**
+     * Load class comments of sample sources
+     *
+     * @return Binary class name and comment mappings
+     */
+    private static Map<String, ClassComment> loadComments() {
+        Map<String, ClassComment> comments = new HashMap<>();
+        for (String source : SOURCES) {
+            InputStream input = AnalysisState.class.getResourceAsStream(source);
+            Objects.requireNonNull(input, "Sample source not found: " + source);
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+                comments.putAll(SourceCommentExtractor.extract(reader.lines().collect(Collectors.joining("\n"))));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return comments;
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Map<String, ClassComment> comments = loadComments();
+        this.method = SampleController.getMethod(this.api);
+        this.context = AnalysisContext.builder().configuration(Configuration.builder().build())
+                .documentProvider(clazz -> comments.get(clazz.getName()))
+                .includeGroupIdentities(Collections.singleton(SampleController.class.getPackage().getName()))
+                .build();
+    }
+
+    /**
+     * Get analysis context of invocation, a new schema cache is used if the cache is not shared
+     *
+     * @return Analysis context
+     */
+    public AnalysisContext getContext() {
+        return this.cached ? this.context : this.context.toBuilder().schemaCache(new SchemaCache()).build();
+    }
+}
@@ -0,0 +1,57 @@
+package com.arsframework.apidoc.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import com.arsframework.apidoc.core.ClassHelper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Class helper benchmark
+ *
+ * @author Woody
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ClassHelperBenchmark {
+    /**
+     * Sample class name
+     */
+    @Param({"java.lang.String", "java.util.Date", "com.arsframework.apidoc.benchmark.SampleModels$Status",
+            "com.arsframework.apidoc.benchmark.SampleModels$Wide",
+            "com.arsframework.apidoc.benchmark.SampleModels$Built"})
+    public String type;
+
+    /**
+     * Sample class
+     */
+    private Class<?> clazz;
+
+    @Setup
+    public void setup() throws ClassNotFoundException {
+        this.clazz = Class.forName(this.type);
+    }
+
+    @Benchmark
+    public boolean isMetaClass() {
+        return ClassHelper.isMetaClass(this.clazz);
+    }
+
+    @Benchmark
+    public Object getInstance() {
+        return ClassHelper.getInstance(this.clazz);
+    }
+}
@@ -0,0 +1,62 @@
+package com.arsframework.apidoc.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import com.arsframework.apidoc.core.ParsedComment;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Document comment parsing benchmark
+ *
+ * @author Woody
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CommentBenchmark {
+    /**
+     * Comment description line count
+     */
+    @Param({"1", "10", "50"})
+    public int lines;
+
+    /**
+     * Comment text
+     */
+    private String text;
+
+    /**
+     * Raw comment text
+     */
+    private String raw;
+
+    @Setup
+    public void setup() {
+        StringBuilder text = new StringBuilder("Query sample records by conditions\n");
+        for (int i = 1; i < this.lines; i++) {
+            text.append("Description line ").append(i).append(" of the sample api comment\n");
+        }
+        this.text = text.toString();
+        this.raw = this.text + "\n@param page Page number\n@param size Page size\n@return Sample records\n"
+                + "@author Woody\n@author Tester\n@date 2020-01-01\n@since 1.4.0\n@version 1.0\n"
+                + "@example {\"page\": 1, \"size\": 20}\n";
+    }
+
+    @Benchmark
+    public ParsedComment parse() {
+        return ParsedComment.parse(this.text, this.raw);
+    }
+}
@@ -0,0 +1,103 @@
+package com.arsframework.apidoc.benchmark;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Synthetic benchmark controller
+ *
+ * @author Woody
+ */
+@RestController
+@RequestMapping("/sample")
+public class SampleController {
+    /**
+     * Deep model api
+     *
+     * @param deep Deep model
+     * @return Deep model
+     */
+    @PostMapping("/deep")
+    public SampleModels.Deep deep(@RequestBody SampleModels.Deep deep) {
+        return deep;
+    }
+
+    /**
+     * Wide model api
+     *
+     * @param wide Wide model
+     * @return Wide model
+     */
+    @PostMapping("/wide")
+    public SampleModels.Wide wide(SampleModels.Wide wide) {
+        return wide;
+    }
+
+    /**
+     * Generic model api
+     *
+     * @param page Page number
+     * @param size Page size
+     * @return Generic result
+     */
+    @GetMapping("/generic")
+    public SampleModels.Result<SampleModels.Page<SampleModels.Pair<String, SampleModels.Wide>>> generic(
+            @RequestParam(defaultValue = "1") int page, @RequestParam(defaultValue = "20") int size) {
+        return null;
+    }
+
+    /**
+     * Recursive model api
+     *
+     * @param node Tree node
+     * @return Tree nodes
+     */
+    @PostMapping("/recursive")
+    public List<SampleModels.TreeNode> recursive(@RequestBody SampleModels.TreeNode node) {
+        return null;
+    }
+
+    /**
+     * Enum heavy model api
+     *
+     * @param enums Enum heavy model
+     * @return Enum heavy model
+     */
+    @GetMapping("/enums")
+    public SampleModels.Enums enums(SampleModels.Enums enums) {
+        return enums;
+    }
+
+    /**
+     * Lombok builder model api
+     *
+     * @param built Lombok builder model
+     * @return Lombok builder model
+     */
+    @PostMapping("/built")
+    public SampleModels.Built built(@RequestBody SampleModels.Built built) {
+        return built;
+    }
+
+    /**
+     * Get api method by name
+     *
+     * @param name Method name
+     * @return Method object
+     */
+    public static Method getMethod(String name) {
+        for (Method method : SampleController.class.getDeclaredMethods()) {
+            if (method.getName().equals(name)) {
+                return method;
+            }
+        }
+        throw new IllegalArgumentException("Not found method: " + name);
+    }
+}
@@ -0,0 +1,523 @@
+package com.arsframework.apidoc.benchmark;
+
+import java.math.BigDecimal;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Synthetic benchmark models which cover deep, wide, generic, recursive, enum-heavy and lombok builder types
+ *
+ * @author Woody
+ */
+public final class SampleModels {
+    private SampleModels() {
+    }
+
+    /**
+     * Status enum
+     */
+    public enum Status {
+        CREATED, PENDING, APPROVED, REJECTED, CANCELLED, EXPIRED, ARCHIVED, DELETED
+    }
+
+    /**
+     * Channel enum
+     */
+    public enum Channel {
+        WEB, ANDROID, IOS, WECHAT, ALIPAY, EMAIL, SMS, PHONE, PARTNER, INTERNAL
+    }
+
+    /**
+     * Region enum
+     */
+    public enum Region {
+        NORTH, SOUTH, EAST, WEST, CENTRAL, NORTHEAST, NORTHWEST, SOUTHEAST, SOUTHWEST, OVERSEA
+    }
+
+    /**
+     * Deep model of six levels
+     */
+    @Data
+    public static class Deep {
+        /**
+         * Deep name
+         */
+        @NotNull
+        private String name;
+
+        /**
+         * Next level
+         */
+        private Level1 next;
+    }
+
+    /**
+     * Deep level 1
+     */
+    @Data
+    public static class Level1 {
+        /**
+         * Level code
+         */
+        private String code;
+
+        /**
+         * Next level
+         */
+        private Level2 next;
+    }
+
+    /**
+     * Deep level 2
+     */
+    @Data
+    public static class Level2 {
+        /**
+         * Level code
+         */
+        private String code;
+
+        /**
+         * Next level
+         */
+        private Level3 next;
+    }
+
+    /**
+     * Deep level 3
+     */
+    @Data
+    public static class Level3 {
+        /**
+         * Level code
+         */
+        private String code;
+
+        /**
+         * Next level
+         */
+        private Level4 next;
+    }
+
+    /**
+     * Deep level 4
+     */
+    @Data
+    public static class Level4 {
+        /**
+         * Level code
+         */
+        private String code;
+
+        /**
+         * Next level
+         */
+        private Level5 next;
+    }
+
+    /**
+     * Deep level 5
+     */
+    @Data
+    public static class Level5 {
+        /**
+         * Level code
+         */
+        private String code;
+
+        /**
+         * Level values
+         */
+        private List<Integer> values;
+    }
+
+    /**
+     * Wide model of forty fields
+     */
+    @Data
+    public static class Wide {
+        /**
+         * Field 01
+         */
+        private Integer field01;
+
+        /**
+         * Field 02
+         */
+        private Long field02;
+
+        /**
+         * Field 03
+         */
+        private Double field03;
+
+        /**
+         * Field 04
+         */
+        private Boolean field04;
+
+        /**
+         * Field 05
+         */
+        private Date field05;
+
+        /**
+         * Field 06
+         */
+        private BigDecimal field06;
+
+        /**
+         * Field 07
+         */
+        private Status field07;
+
+        /**
+         * Field 08
+         */
+        private String field08;
+
+        /**
+         * Field 09
+         */
+        private Integer field09;
+
+        /**
+         * Field 10
+         */
+        private Long field10;
+
+        /**
+         * Field 11
+         */
+        private Double field11;
+
+        /**
+         * Field 12
+         */
+        private Boolean field12;
+
+        /**
+         * Field 13
+         */
+        private Date field13;
+
+        /**
+         * Field 14
+         */
+        private BigDecimal field14;
+
+        /**
+         * Field 15
+         */
+        private Status field15;
+
+        /**
+         * Field 16
+         */
+        private String field16;
+
+        /**
+         * Field 17
+         */
+        private Integer field17;
+
+        /**
+         * Field 18
+         */
+        private Long field18;
+
+        /**
+         * Field 19
+         */
+        private Double field19;
+
+        /**
+         * Field 20
+         */
+        private Boolean field20;
+
+        /**
+         * Field 21
+         */
+        private Date field21;
+
+        /**
+         * Field 22
+         */
+        private BigDecimal field22;
+
+        /**
+         * Field 23
+         */
+        private Status field23;
+
+        /**
+         * Field 24
+         */
+        private String field24;
+
+        /**
+         * Field 25
+         */
+        private Integer field25;
+
+        /**
+         * Field 26
+         */
+        private Long field26;
+
+        /**
+         * Field 27
+         */
+        private Double field27;
+
+        /**
+         * Field 28
+         */
+        private Boolean field28;
+
+        /**
+         * Field 29
+         */
+        private Date field29;
+
+        /**
+         * Field 30
+         */
+        private BigDecimal field30;
+
+        /**
+         * Field 31
+         */
+        private Status field31;
+
+        /**
+         * Field 32
+         */
+        private String field32;
+
+        /**
+         * Field 33
+         */
+        private Integer field33;
+
+        /**
+         * Field 34
+         */
+        private Long field34;
+
+        /**
+         * Field 35
+         */
+        private Double field35;
+
+        /**
+         * Field 36
+         */
+        private Boolean field36;
+
+        /**
+         * Field 37
+         */
+        private Date field37;
+
+        /**
+         * Field 38
+         */
+        private BigDecimal field38;
+
+        /**
+         * Field 39
+         */
+        private Status field39;
+
+        /**
+         * Field 40
+         */
+        private String field40;
+    }
+
+    /**
+     * Generic result model
+     *
+     * @param <T> Data type
+     */
+    @Data
+    public static class Result<T> {
+        /**
+         * Result code
+         */
+        private int code;
+
+        /**
+         * Result message
+         */
+        private String message;
+
+        /**
+         * Result data
+         */
+        private T data;
+    }
+
+    /**
+     * Generic page model
+     *
+     * @param <T> Item type
+     */
+    @Data
+    public static class Page<T> {
+        /**
+         * Page number
+         */
+        private int page = 1;
+
+        /**
+         * Page size
+         */
+        @Size(min = 1, max = 100)
+        private int size = 20;
+
+        /**
+         * Page items
+         */
+        private List<T> items;
+    }
+
+    /**
+     * Generic pair model
+     *
+     * @param <K> Key type
+     * @param <V> Value type
+     */
+    @Data
+    public static class Pair<K, V> {
+        /**
+         * Pair key
+         */
+        private K key;
+
+        /**
+         * Pair value
+         */
+        private V value;
+    }
+
+    /**
+     * Recursive tree model
+     */
+    @Data
+    public static class TreeNode {
+        /**
+         * Node name
+         */
+        private String name;
+
+        /**
+         * Parent node
+         */
+        private TreeNode parent;
+
+        /**
+         * Child nodes
+         */
+        private List<TreeNode> children;
+
+        /**
+         * Node owner
+         */
+        private Owner owner;
+    }
+
+    /**
+     * Mutually recursive owner model
+     */
+    @Data
+    public static class Owner {
+        /**
+         * Owner name
+         */
+        private String name;
+
+        /**
+         * Owned nodes
+         */
+        private List<TreeNode> nodes;
+
+        /**
+         * Owner properties
+         */
+        private Map<String, String> properties;
+    }
+
+    /**
+     * Enum heavy model
+     */
+    @Data
+    public static class Enums {
+        /**
+         * Status
+         */
+        private Status status = Status.CREATED;
+
+        /**
+         * Statuses
+         */
+        private List<Status> statuses;
+
+        /**
+         * Channel
+         */
+        private Channel channel = Channel.WEB;
+
+        /**
+         * Channels
+         */
+        private Channel[] channels;
+
+        /**
+         * Region
+         */
+        private Region region;
+
+        /**
+         * Regions
+         */
+        private List<Region> regions;
+    }
+
+    /**
+     * Lombok builder model without no-args constructor
+     */
+    @Data
+    @Builder
+    public static class Built {
+        /**
+         * Built name
+         */
+        @Builder.Default
+        private String name = "built";
+
+        /**
+         * Built status
+         */
+        @Builder.Default
+        private Status status = Status.PENDING;
+
+        /**
+         * Built amount
+         */
+        private BigDecimal amount;
+
+        /**
+         * Built time
+         */
+        private Date time;
+    }
+}
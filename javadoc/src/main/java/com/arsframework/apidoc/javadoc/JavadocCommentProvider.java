@@ -0,0 +1,140 @@
+package com.arsframework.apidoc.javadoc;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+import com.arsframework.apidoc.core.ClassComment;
+import com.arsframework.apidoc.core.DocumentCache;
+import com.arsframework.apidoc.core.ParsedComment;
+import com.sun.javadoc.ClassDoc;
+import com.sun.javadoc.Doc;
+import com.sun.javadoc.FieldDoc;
+import com.sun.javadoc.MethodDoc;
+import com.sun.javadoc.Type;
+import com.sun.javadoc.TypeVariable;
+
+/**
+ * Document provider which converts the javadoc class documents to class comments, the comments of class, fields and
+ * methods are materialized once when the document is loaded, so the javadoc objects which are not thread safe are not
+ * accessed by the analysers. The provider is marked as {@link DocumentCache.Serial}, so it is invoked serially by
+ * {@link DocumentCache}
+ *
+ * @author Woody
+ */
+public class JavadocCommentProvider implements Function<Class<?>, ClassComment>, DocumentCache.Serial {
+    /**
+     * Javadoc document provider function
+     */
+    private final Function<Class<?>, ClassDoc> provider;
+
+    public JavadocCommentProvider(Function<Class<?>, ClassDoc> provider) {
+        Objects.requireNonNull(provider, "provider not specified");
+        this.provider = provider;
+    }
+
+    /**
+     * Parse document comment
+     *
+     * @param document Document object
+     * @return Parsed comment
+     */
+    public static ParsedComment parse(Doc document) {
+        return document == null ? ParsedComment.EMPTY
+                : ParsedComment.parse(document.commentText(), document.getRawCommentText());
+    }
+
+    /**
+     * Get binary class name of class document
+     *
+     * @param document Class document object
+     * @return Binary class name
+     */
+    private static String getBinaryName(ClassDoc document) {
+        ClassDoc container = document.containingClass();
+        return container == null ? document.qualifiedName()
+                : getBinaryName(container) + '$' + document.simpleTypeName();
+    }
+
+    /**
+     * Get erasure simple type name of document type
+     *
+     * @param type Document type object
+     * @return Type name
+     */
+    private static String getErasureName(Type type) {
+        TypeVariable variable = type.asTypeVariable();
+        if (variable != null) {
+            Type[] bounds = variable.bounds();
+            return bounds.length == 0 ? Object.class.getSimpleName() : getErasureName(bounds[0]);
+        }
+        return type.simpleTypeName();
+    }
+
+    /**
+     * Get source signature of method document which matches {@link ClassComment#getSignature(java.lang.reflect.Method)}
+     *
+     * @param document Method document object
+     * @return Method signature
+     */
+    public static String getSignature(MethodDoc document) {
+        Objects.requireNonNull(document, "document not specified");
+        StringBuilder signature = new StringBuilder(document.name()).append('(');
+        com.sun.javadoc.Parameter[] parameters = document.parameters();
+        for (int i = 0; i < parameters.length; i++) {
+            if (i > 0) {
+                signature.append(',');
+            }
+            Type type = parameters[i].type();
+            signature.append(getErasureName(type)).append(type.dimension().replace("...", "[]"));
+        }
+        return signature.append(')').toString();
+    }
+
+    /**
+     * Convert class document to class comment
+     *
+     * @param document Class document object
+     * @return Class comment
+     */
+    public static ClassComment toClassComment(ClassDoc document) {
+        Objects.requireNonNull(document, "document not specified");
+        FieldDoc[] fieldDocuments = document.fields(false);
+        MethodDoc[] methodDocuments = document.methods(false);
+        Map<String, ParsedComment> fields = new HashMap<>(fieldDocuments.length * 2);
+        Map<String, ParsedComment> methods = new HashMap<>(methodDocuments.length * 2);
+        Map<String, ParsedComment> names = new HashMap<>(methodDocuments.length * 2);
+        for (FieldDoc fieldDocument : fieldDocuments) {
+            fields.putIfAbsent(fieldDocument.name(), parse(fieldDocument));
+        }
+        for (MethodDoc methodDocument : methodDocuments) {
+            ParsedComment comment = parse(methodDocument);
+            methods.putIfAbsent(getSignature(methodDocument), comment);
+            names.putIfAbsent(methodDocument.name(), comment);
+        }
+        return new ClassComment(getBinaryName(document), parse(document), fields, methods, names);
+    }
+
+    /**
+     * Get javadoc class document of class, the javadoc provider is not thread safe so that the calls are serialized
+     *
+     * @param clazz Class object
+     * @return Class document or null if absent
+     */
+    public synchronized ClassDoc getDocument(Class<?> clazz) {
+        return this.provider.apply(clazz);
+    }
+
+    /**
+     * Get class comment of class
+     *
+     * @param clazz Class object
+     * @return Class comment or null if the document is absent
+     */
+    @Override
+    public synchronized ClassComment apply(Class<?> clazz) {
+        ClassDoc document = this.provider.apply(clazz);
+        return document == null ? null : toClassComment(document);
+    }
+}
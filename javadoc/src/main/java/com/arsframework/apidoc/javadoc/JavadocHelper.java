@@ -0,0 +1,296 @@
+package com.arsframework.apidoc.javadoc;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+import java.util.function.Function;
+
+import com.arsframework.apidoc.core.AnalysisContext;
+import com.arsframework.apidoc.core.ClassComment;
+import com.arsframework.apidoc.core.ContextHelper;
+import com.arsframework.apidoc.core.DocumentCache;
+import com.arsframework.apidoc.core.DocumentHelper;
+import com.arsframework.apidoc.core.ParsedComment;
+import com.sun.javadoc.ClassDoc;
+import com.sun.javadoc.Doc;
+import com.sun.javadoc.FieldDoc;
+import com.sun.javadoc.MethodDoc;
+
+/**
+ * Javadoc document helper
+ *
+ * @author Woody
+ */
+public final class JavadocHelper {
+    /**
+     * Document and parsed comment mappings
+     */
+    private static final Map<Doc, ParsedComment> PARSED_COMMENTS = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private JavadocHelper() {
+    }
+
+    /**
+     * Set javadoc document provider to current context
+     *
+     * @param documentProvider Document provider object
+     */
+    public static void setDocumentProvider(Function<Class<?>, ClassDoc> documentProvider) {
+        setDocumentProvider(documentProvider, DocumentCache.DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Set javadoc document provider to current context with cache capacity
+     *
+     * @param documentProvider Document provider object
+     * @param cacheCapacity    Document cache capacity
+     */
+    public static void setDocumentProvider(Function<Class<?>, ClassDoc> documentProvider, int cacheCapacity) {
+        ContextHelper.setDocumentProvider(new JavadocCommentProvider(documentProvider), cacheCapacity);
+    }
+
+    /**
+     * Get class document of class with the javadoc document provider of current context
+     *
+     * @param clazz Class object
+     * @return Class document or null if absent
+     * @deprecated Use {@link ContextHelper#getClassComment(Class)} instead
+     */
+    @Deprecated
+    public static ClassDoc getDocument(Class<?> clazz) {
+        return getDocument(ContextHelper.getContext(), clazz);
+    }
+
+    /**
+     * Get class document of class with the javadoc document provider of analysis context, the document is null if the
+     * document provider of context is not a {@link JavadocCommentProvider}
+     *
+     * @param context Analysis context
+     * @param clazz   Class object
+     * @return Class document or null if absent
+     * @deprecated Use {@link AnalysisContext#getClassComment(Class)} instead
+     */
+    @Deprecated
+    public static ClassDoc getDocument(AnalysisContext context, Class<?> clazz) {
+        Objects.requireNonNull(context, "context not specified");
+        DocumentCache cache = context.getDocumentProvider();
+        if (clazz == null || cache == null || !(cache.getProvider() instanceof JavadocCommentProvider)) {
+            return null;
+        }
+        return ((JavadocCommentProvider) cache.getProvider()).getDocument(clazz);
+    }
+
+    /**
+     * Get field document with the javadoc document provider of current context
+     *
+     * @param field Field object
+     * @return Field document or null if absent
+     * @deprecated Use {@link ClassComment#getField(String)} instead
+     */
+    @Deprecated
+    public static FieldDoc getDocument(Field field) {
+        return getDocument(ContextHelper.getContext(), field);
+    }
+
+    /**
+     * Get field document with the javadoc document provider of analysis context
+     *
+     * @param context Analysis context
+     * @param field   Field object
+     * @return Field document or null if absent
+     * @deprecated Use {@link ClassComment#getField(String)} instead
+     */
+    @Deprecated
+    public static FieldDoc getDocument(AnalysisContext context, Field field) {
+        Objects.requireNonNull(field, "field not specified");
+        ClassDoc document = getDocument(context, field.getDeclaringClass());
+        if (document != null) {
+            for (FieldDoc fieldDocument : document.fields(false)) {
+                if (fieldDocument.name().equals(field.getName())) {
+                    return fieldDocument;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Get method document with the javadoc document provider of current context
+     *
+     * @param method Method object
+     * @return Method document or null if absent
+     * @deprecated Use {@link ClassComment#getMethod(Method)} instead
+     */
+    @Deprecated
+    public static MethodDoc getDocument(Method method) {
+        return getDocument(ContextHelper.getContext(), method);
+    }
+
+    /**
+     * Get method document with the javadoc document provider of analysis context, the method document is matched by
+     * signature, or by name if no signature matches
+     *
+     * @param context Analysis context
+     * @param method  Method object
+     * @return Method document or null if absent
+     * @deprecated Use {@link ClassComment#getMethod(Method)} instead
+     */
+    @Deprecated
+    public static MethodDoc getDocument(AnalysisContext context, Method method) {
+        Objects.requireNonNull(method, "method not specified");
+        ClassDoc document = getDocument(context, method.getDeclaringClass());
+        if (document == null) {
+            return null;
+        }
+        String signature = ClassComment.getSignature(method);
+        MethodDoc named = null;
+        for (MethodDoc methodDocument : document.methods(false)) {
+            if (JavadocCommentProvider.getSignature(methodDocument).equals(signature)) {
+                return methodDocument;
+            } else if (named == null && methodDocument.name().equals(method.getName())) {
+                named = methodDocument;
+            }
+        }
+        return named;
+    }
+
+    /**
+     * Get parsed comment of document
+     *
+     * @param document Document object
+     * @return Parsed comment
+     */
+    public static ParsedComment getParsedComment(Doc document) {
+        if (document == null) {
+            return ParsedComment.EMPTY;
+        }
+        ParsedComment comment = PARSED_COMMENTS.get(document);
+        if (comment == null) {
+            PARSED_COMMENTS.put(document, comment = JavadocCommentProvider.parse(document));
+        }
+        return comment;
+    }
+
+    /**
+     * Get comment lines
+     *
+     * @param document Document object
+     * @return Comment lines
+     */
+    public static List<String> getCommentLines(Doc document) {
+        return new ArrayList<>(getParsedComment(document).getLines());
+    }
+
+    /**
+     * Get comment outline
+     *
+     * @param document Document object
+     * @return Comment outline
+     */
+    public static String getCommentOutline(Doc document) {
+        return getParsedComment(document).getOutline();
+    }
+
+    /**
+     * Get comment description
+     *
+     * @param document Document object
+     * @return Comment description
+     */
+    public static String getCommentDescription(Doc document) {
+        return getParsedComment(document).getDescription();
+    }
+
+    /**
+     * Get parsed comments of documents
+     *
+     * @param documents Document object array
+     * @return Parsed comment array
+     */
+    private static ParsedComment[] getParsedComments(Doc... documents) {
+        if (documents == null) {
+            return null;
+        }
+        ParsedComment[] comments = new ParsedComment[documents.length];
+        for (int i = 0; i < documents.length; i++) {
+            comments[i] = getParsedComment(documents[i]);
+        }
+        return comments;
+    }
+
+    /**
+     * Get date note from document
+     *
+     * @param documents Document object array
+     * @return Date for string
+     */
+    public static String getDateNote(Doc... documents) {
+        return DocumentHelper.getDateNote(getParsedComments(documents));
+    }
+
+    /**
+     * Get authors note from document
+     *
+     * @param documents Document object array
+     * @return Api authors
+     */
+    public static List<String> getAuthorNotes(Doc... documents) {
+        return DocumentHelper.getAuthorNotes(getParsedComments(documents));
+    }
+
+    /**
+     * Get since note from document
+     *
+     * @param documents Document object array
+     * @return Api since
+     */
+    public static String getSinceNote(Doc... documents) {
+        return DocumentHelper.getSinceNote(getParsedComments(documents));
+    }
+
+    /**
+     * Get version note from document
+     *
+     * @param documents Document object array
+     * @return Api version
+     */
+    public static String getVersionNote(Doc... documents) {
+        return DocumentHelper.getVersionNote(getParsedComments(documents));
+    }
+
+    /**
+     * Get parameter note
+     *
+     * @param name      Parameter name
+     * @param documents Document object array
+     * @return Parameter note
+     */
+    public static String getParameterNote(String name, Doc... documents) {
+        return DocumentHelper.getParameterNote(name, getParsedComments(documents));
+    }
+
+    /**
+     * Get return note from document
+     *
+     * @param documents Document object array
+     * @return Api return
+     */
+    public static String getReturnNote(Doc... documents) {
+        return DocumentHelper.getReturnNote(getParsedComments(documents));
+    }
+
+    /**
+     * Get example note from document
+     *
+     * @param documents Document object array
+     * @return Api parameter example
+     */
+    public static String getExampleNote(Doc... documents) {
+        return DocumentHelper.getExampleNote(getParsedComments(documents));
+    }
+}
@@ -0,0 +1,117 @@
+package com.arsframework.apidoc.javadoc;
+
+import java.io.File;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Collections;
+
+import com.arsframework.apidoc.core.AnalysisContext;
+import com.arsframework.apidoc.core.ClassComment;
+import com.arsframework.apidoc.core.Configuration;
+import com.sun.javadoc.ClassDoc;
+import com.sun.javadoc.RootDoc;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Javadoc comment provider tests
+ *
+ * @author Woody
+ */
+public class JavadocCommentProviderTest {
+    /**
+     * Root document of the test source
+     */
+    private static RootDoc root;
+
+    /**
+     * Sample class
+     *
+     * @author tester
+     */
+    public static class Sample {
+        /**
+         * Sample name
+         */
+        private String name;
+
+        /**
+         * Echo value
+         *
+         * @param value Echo value
+         * @return Echo result
+         */
+        public String echo(String value) {
+            return value;
+        }
+    }
+
+    /**
+     * Document collecting doclet
+     */
+    public static class Collector {
+        /**
+         * Collect root document
+         *
+         * @param root Root document
+         * @return true/false
+         */
+        public static boolean start(RootDoc root) {
+            JavadocCommentProviderTest.root = root;
+            return true;
+        }
+    }
+
+    /**
+     * Load the documents of the test source with javadoc tool
+     */
+    @BeforeClass
+    public static void loadDocuments() {
+        String source = new File("src/test/java", JavadocCommentProviderTest.class.getName().replace('.', '/')
+                + ".java").getPath();
+        int status = com.sun.tools.javadoc.Main.execute("javadoc", Collector.class.getName(),
+                new String[]{"-private", "-quiet", source});
+        Assert.assertEquals(0, status);
+    }
+
+    /**
+     * Build analysis context with javadoc comment provider
+     *
+     * @return Analysis context
+     */
+    private static AnalysisContext buildContext() {
+        return AnalysisContext.builder().configuration(Configuration.builder().build())
+                .documentProvider(new JavadocCommentProvider(clazz -> root.classNamed(clazz.getCanonicalName())))
+                .includeGroupIdentities(Collections.singleton("com.arsframework")).build();
+    }
+
+    @Test
+    public void testClassComment() throws NoSuchMethodException {
+        ClassComment comment = buildContext().getClassComment(Sample.class);
+        Assert.assertNotNull(comment);
+        Assert.assertEquals(Sample.class.getName(), comment.getName());
+        Assert.assertEquals("Sample class", comment.getComment().getOutline());
+        Assert.assertEquals("tester", comment.getComment().getTag("@author"));
+        Assert.assertEquals("Sample name", comment.getField("name").getOutline());
+        Assert.assertEquals("Echo value", comment.getMethod(Sample.class.getMethod("echo", String.class))
+                .getOutline());
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    public void testDeprecatedDocuments() throws NoSuchFieldException, NoSuchMethodException {
+        AnalysisContext context = buildContext();
+        ClassDoc document = JavadocHelper.getDocument(context, Sample.class);
+        Assert.assertNotNull(document);
+        Assert.assertEquals(Sample.class.getCanonicalName(), document.qualifiedName());
+
+        Field field = Sample.class.getDeclaredField("name");
+        Assert.assertEquals("Sample name", JavadocHelper.getCommentOutline(JavadocHelper.getDocument(context, field)));
+        Method method = Sample.class.getMethod("echo", String.class);
+        Assert.assertEquals("Echo value", JavadocHelper.getCommentOutline(JavadocHelper.getDocument(context, method)));
+        Assert.assertEquals("Echo result", JavadocHelper.getReturnNote(JavadocHelper.getDocument(context, method)));
+        Assert.assertNull(JavadocHelper.getDocument(AnalysisContext.builder()
+                .configuration(Configuration.builder().build()).build(), Sample.class));
+    }
+}
@@ -0,0 +1,140 @@
+package com.arsframework.apidoc.core;
+
+import java.lang.reflect.AnnotatedElement;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.function.Function;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Immutable analysis context which is shared by the analysers of one analysis
+ *
+ * @author Woody
+ */
+@Getter
+public class AnalysisContext {
+    /**
+     * Class path
+     */
+    private final String classpath;
+
+    /**
+     * Class loader
+     */
+    private final ClassLoader classLoader;
+
+    /**
+     * Configuration
+     */
+    private final Configuration configuration;
+
+    /**
+     * Document provider function which loads the class comments
+     */
+    private final DocumentCache documentProvider;
+
+    /**
+     * Include group identities
+     */
+    private final Set<String> includeGroupIdentities;
+
+    /**
+     * Parameter schema cache
+     */
+    private final SchemaCache schemaCache;
+
+    /**
+     * String pool
+     */
+    private final StringPool stringPool;
+
+    /**
+     * Source comment index, the comments are extracted from sources instead of javadoc if specified
+     */
+    private final CommentIndex commentIndex;
+
+    /**
+     * Analysis listener, the analysis phases are not timed if absent
+     */
+    private final AnalysisListener listener;
+
+    @Builder(toBuilder = true)
+    private AnalysisContext(String classpath, ClassLoader classLoader, Configuration configuration,
+                            Function<Class<?>, ClassComment> documentProvider, Set<String> includeGroupIdentities,
+                            SchemaCache schemaCache, StringPool stringPool,
+                            CommentIndex commentIndex, AnalysisListener listener) {
+        this.classpath = classpath;
+        this.classLoader = classLoader;
+        this.configuration = configuration;
+        this.documentProvider = documentProvider == null || documentProvider instanceof DocumentCache ?
+                (DocumentCache) documentProvider : new DocumentCache(documentProvider);
+        this.includeGroupIdentities = includeGroupIdentities == null ? Collections.emptySet() :
+                Collections.unmodifiableSet(new LinkedHashSet<>(includeGroupIdentities));
+        this.schemaCache = schemaCache == null ? new SchemaCache() : schemaCache;
+        this.stringPool = stringPool == null ? new StringPool() : stringPool;
+        this.commentIndex = commentIndex;
+        this.listener = listener;
+    }
+
+    /**
+     * Start timing of analysis phase
+     *
+     * @return Start nanoseconds or 0 if no listener is registered
+     */
+    public long startPhase() {
+        return this.listener == null ? 0 : System.nanoTime();
+    }
+
+    /**
+     * Finish timing of analysis phase and notify the listener
+     *
+     * @param phase   Analysis phase
+     * @param element Analysed element
+     * @param start   Start nanoseconds
+     */
+    public void finishPhase(AnalysisListener.Phase phase, AnnotatedElement element, long start) {
+        if (this.listener != null) {
+            this.listener.onPhase(phase, element, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Get class comment, the comment is extracted from source if the comment index is specified, otherwise the
+     * comment is loaded by the document provider
+     *
+     * @param clazz Class object
+     * @return Class comment or null if absent
+     */
+    public ClassComment getClassComment(Class<?> clazz) {
+        if (clazz == null) {
+            return null;
+        } else if (this.commentIndex != null) {
+            return this.commentIndex.getClassComment(clazz);
+        }
+        return this.documentProvider == null ? null : this.documentProvider.apply(clazz);
+    }
+
+    /**
+     * Evict class documents of controller class
+     *
+     * @param clazz Controller class object
+     */
+    public void evictDocument(Class<?> clazz) {
+        if (clazz != null && this.documentProvider != null) {
+            this.documentProvider.evict(clazz);
+        }
+    }
+
+    /**
+     * Judge whether the package is active
+     *
+     * @param pkg Package object
+     * @return true/false
+     */
+    public boolean isActivePackage(Package pkg) {
+        return pkg == null || this.includeGroupIdentities.stream().anyMatch(pkg.getName()::startsWith);
+    }
+}
@@ -0,0 +1,247 @@
+package com.arsframework.apidoc.core;
+
+import java.lang.reflect.Method;
+
+/**
+ * Flight recorder events of analysis, the events are emitted only if the flight recorder api is available on the
+ * runtime and the optional flight recorder classes are compiled into the artifact, otherwise all the methods are
+ * no-op. The event classes are never referenced directly, they are loaded reflectively by the recorder class name
+ *
+ * @author Woody
+ */
+final class AnalysisEvents {
+    /**
+     * Flight recorder implementation class name
+     */
+    private static final String RECORDER = "com.arsframework.apidoc.core.FlightRecorder";
+
+    /**
+     * Event recorder, null if the flight recorder is not available
+     */
+    private static final Recorder recorder = lookupRecorder();
+
+    /**
+     * Whether the flight recorder is available
+     */
+    static final boolean AVAILABLE = recorder != null;
+
+    private AnalysisEvents() {
+    }
+
+    /**
+     * Analysis event recorder
+     */
+    interface Recorder {
+        /**
+         * Begin controller scanning event
+         *
+         * @param controller Controller class
+         * @return Event object
+         */
+        Object beginScan(Class<?> controller);
+
+        /**
+         * Commit controller scanning event
+         *
+         * @param event  Event object
+         * @param apis   Api count
+         * @param cached Whether the apis are loaded from persistent api cache
+         */
+        void commitScan(Object event, int apis, boolean cached);
+
+        /**
+         * Begin method parsing event
+         *
+         * @param method Api method
+         * @return Event object
+         */
+        Object beginParse(Method method);
+
+        /**
+         * Commit method parsing event
+         *
+         * @param event     Event object
+         * @param nodes     Expanded parameter node count
+         * @param truncated Whether the api is partial
+         */
+        void commitParse(Object event, int nodes, boolean truncated);
+
+        /**
+         * Begin type expansion event
+         *
+         * @param type  Expanded class
+         * @param depth Expansion depth
+         * @return Event object
+         */
+        Object beginExpansion(Class<?> type, int depth);
+
+        /**
+         * Commit type expansion event
+         *
+         * @param event  Event object
+         * @param fields Expanded field parameter count
+         */
+        void commitExpansion(Object event, int fields);
+
+        /**
+         * Begin document loading event
+         *
+         * @param type Documented class
+         * @return Event object
+         */
+        Object beginDocument(Class<?> type);
+
+        /**
+         * Commit document loading event
+         *
+         * @param event Event object
+         * @param found Whether the document is found
+         */
+        void commitDocument(Object event, boolean found);
+
+        /**
+         * Begin instantiation event
+         *
+         * @param type Instantiated class
+         * @return Event object
+         */
+        Object beginInstantiation(Class<?> type);
+
+        /**
+         * Commit instantiation event
+         *
+         * @param event   Event object
+         * @param created Whether the instance is created
+         */
+        void commitInstantiation(Object event, boolean created);
+    }
+
+    /**
+     * Lookup the flight recorder, the recorder is unavailable if either the flight recorder api or the recorder class
+     * is absent
+     *
+     * @return Event recorder or null if not available
+     */
+    private static Recorder lookupRecorder() {
+        ClassLoader loader = AnalysisEvents.class.getClassLoader();
+        try {
+            Class.forName("jdk.jfr.Event", false, loader);
+            return (Recorder) Class.forName(RECORDER, true, loader).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError | ClassCastException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Begin controller scanning event
+     *
+     * @param controller Controller class
+     * @return Event object or null if not available
+     */
+    static Object beginScan(Class<?> controller) {
+        return recorder == null ? null : recorder.beginScan(controller);
+    }
+
+    /**
+     * Commit controller scanning event
+     *
+     * @param event  Event object
+     * @param apis   Api count
+     * @param cached Whether the apis are loaded from persistent api cache
+     */
+    static void commitScan(Object event, int apis, boolean cached) {
+        if (event != null) {
+            recorder.commitScan(event, apis, cached);
+        }
+    }
+
+    /**
+     * Begin method parsing event
+     *
+     * @param method Api method
+     * @return Event object or null if not available
+     */
+    static Object beginParse(Method method) {
+        return recorder == null ? null : recorder.beginParse(method);
+    }
+
+    /**
+     * Commit method parsing event
+     *
+     * @param event     Event object
+     * @param nodes     Expanded parameter node count
+     * @param truncated Whether the api is partial
+     */
+    static void commitParse(Object event, int nodes, boolean truncated) {
+        if (event != null) {
+            recorder.commitParse(event, nodes, truncated);
+        }
+    }
+
+    /**
+     * Begin type expansion event
+     *
+     * @param type  Expanded class
+     * @param depth Expansion depth
+     * @return Event object or null if not available
+     */
+    static Object beginExpansion(Class<?> type, int depth) {
+        return recorder == null ? null : recorder.beginExpansion(type, depth);
+    }
+
+    /**
+     * Commit type expansion event
+     *
+     * @param event  Event object
+     * @param fields Expanded field parameter count
+     */
+    static void commitExpansion(Object event, int fields) {
+        if (event != null) {
+            recorder.commitExpansion(event, fields);
+        }
+    }
+
+    /**
+     * Begin document loading event
+     *
+     * @param type Documented class
+     * @return Event object or null if not available
+     */
+    static Object beginDocument(Class<?> type) {
+        return recorder == null ? null : recorder.beginDocument(type);
+    }
+
+    /**
+     * Commit document loading event
+     *
+     * @param event Event object
+     * @param found Whether the document is found
+     */
+    static void commitDocument(Object event, boolean found) {
+        if (event != null) {
+            recorder.commitDocument(event, found);
+        }
+    }
+
+    /**
+     * Begin instantiation event
+     *
+     * @param type Instantiated class
+     * @return Event object or null if not available
+     */
+    static Object beginInstantiation(Class<?> type) {
+        return recorder == null ? null : recorder.beginInstantiation(type);
+    }
+
+    /**
+     * Commit instantiation event
+     *
+     * @param event   Event object
+     * @param created Whether the instance is created
+     */
+    static void commitInstantiation(Object event, boolean created) {
+        if (event != null) {
+            recorder.commitInstantiation(event, created);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.arsframework.apidoc.core;
+
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Method;
+import java.util.List;
+
+/**
+ * Analysis listener which is notified of the analysis phases, parsed apis and scanned controllers, the phases are not
+ * timed if no listener is registered to the analysis context. The listener is invoked by the scanning threads
+ * concurrently and should return quickly
+ *
+ * @author Woody
+ */
+public interface AnalysisListener {
+    /**
+     * Notified when a phase is finished
+     *
+     * @param phase   Analysis phase
+     * @param element Analysed class, method, field or method parameter
+     * @param nanos   Elapsed nanoseconds
+     */
+    default void onPhase(Phase phase, AnnotatedElement element, long nanos) {
+    }
+
+    /**
+     * Notified when the method is parsed to api
+     *
+     * @param context Analysis context
+     * @param method  Api method
+     * @param api     Parsed api
+     * @param nodes   Expanded parameter node count
+     * @param nanos   Elapsed nanoseconds
+     */
+    default void onParsed(AnalysisContext context, Method method, Api api, int nodes, long nanos) {
+    }
+
+    /**
+     * Notified when the controller is scanned
+     *
+     * @param context    Analysis context
+     * @param controller Controller class
+     * @param apis       Api list of controller
+     * @param cached     Whether the apis are loaded from persistent api cache
+     * @param nanos      Elapsed nanoseconds
+     */
+    default void onScanned(AnalysisContext context, Class<?> controller, List<Api> apis, boolean cached,
+                           long nanos) {
+    }
+
+    /**
+     * Analysis phase
+     */
+    enum Phase {
+        /**
+         * Document comment lookup of class, method or field
+         */
+        DOCUMENT,
+
+        /**
+         * Annotation introspection of field or method parameter
+         */
+        ANNOTATION,
+
+        /**
+         * Default instance creation of class
+         */
+        INSTANTIATION,
+
+        /**
+         * Parameter fields expansion of class, the nested expansions are included in the outermost expansion
+         */
+        EXPANSION,
+
+        /**
+         * Parameter initialization hook
+         */
+        INITIALIZATION
+    }
+}
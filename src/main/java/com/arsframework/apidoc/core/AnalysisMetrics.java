@@ -0,0 +1,243 @@
+package com.arsframework.apidoc.core;
+
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Built-in analysis listener which accumulates the counters and timers of analysis phases, parsed apis and scanned
+ * controllers, the cache hit ratios are sampled from the analysis context when the apis are parsed or scanned
+ *
+ * @author Woody
+ */
+public class AnalysisMetrics implements AnalysisListener {
+    /**
+     * Analysis phases
+     */
+    private static final Phase[] PHASES = Phase.values();
+
+    /**
+     * Phase counts
+     */
+    private final LongAdder[] counts = new LongAdder[PHASES.length];
+
+    /**
+     * Phase elapsed nanoseconds
+     */
+    private final LongAdder[] times = new LongAdder[PHASES.length];
+
+    /**
+     * Parsed api count
+     */
+    private final LongAdder apis = new LongAdder();
+
+    /**
+     * Parsed parameter node count
+     */
+    private final LongAdder nodes = new LongAdder();
+
+    /**
+     * Parse elapsed nanoseconds
+     */
+    private final LongAdder parseTime = new LongAdder();
+
+    /**
+     * Scanned controller count
+     */
+    private final LongAdder controllers = new LongAdder();
+
+    /**
+     * Controller count which apis are loaded from persistent api cache
+     */
+    private final LongAdder cachedControllers = new LongAdder();
+
+    /**
+     * Scan elapsed nanoseconds
+     */
+    private final LongAdder scanTime = new LongAdder();
+
+    /**
+     * Schema cache hit ratio of last sample
+     */
+    private volatile double schemaCacheHitRatio;
+
+    /**
+     * Document cache hit ratio of last sample
+     */
+    private volatile double documentCacheHitRatio;
+
+    public AnalysisMetrics() {
+        for (int i = 0; i < PHASES.length; i++) {
+            this.counts[i] = new LongAdder();
+            this.times[i] = new LongAdder();
+        }
+    }
+
+    @Override
+    public void onPhase(Phase phase, AnnotatedElement element, long nanos) {
+        this.counts[phase.ordinal()].increment();
+        this.times[phase.ordinal()].add(nanos);
+    }
+
+    @Override
+    public void onParsed(AnalysisContext context, Method method, Api api, int nodes, long nanos) {
+        this.apis.increment();
+        this.nodes.add(nodes);
+        this.parseTime.add(nanos);
+        this.sample(context);
+    }
+
+    @Override
+    public void onScanned(AnalysisContext context, Class<?> controller, List<Api> apis, boolean cached, long nanos) {
+        this.controllers.increment();
+        if (cached) {
+            this.cachedControllers.increment();
+        }
+        this.scanTime.add(nanos);
+        this.sample(context);
+    }
+
+    /**
+     * Sample cache hit ratios of analysis context
+     *
+     * @param context Analysis context
+     */
+    private void sample(AnalysisContext context) {
+        this.schemaCacheHitRatio = context.getSchemaCache().getHitRatio();
+        DocumentCache documentCache = context.getDocumentProvider();
+        if (documentCache != null) {
+            this.documentCacheHitRatio = documentCache.getHitRatio();
+        }
+    }
+
+    /**
+     * Get phase count
+     *
+     * @param phase Analysis phase
+     * @return Phase count
+     */
+    public long getCount(Phase phase) {
+        return this.counts[phase.ordinal()].sum();
+    }
+
+    /**
+     * Get phase elapsed time
+     *
+     * @param phase Analysis phase
+     * @param unit  Time unit
+     * @return Elapsed time
+     */
+    public long getTime(Phase phase, TimeUnit unit) {
+        return unit.convert(this.times[phase.ordinal()].sum(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Get parsed api count
+     *
+     * @return Api count
+     */
+    public long getApis() {
+        return this.apis.sum();
+    }
+
+    /**
+     * Get parsed parameter node count
+     *
+     * @return Node count
+     */
+    public long getNodes() {
+        return this.nodes.sum();
+    }
+
+    /**
+     * Get parse elapsed time
+     *
+     * @param unit Time unit
+     * @return Elapsed time
+     */
+    public long getParseTime(TimeUnit unit) {
+        return unit.convert(this.parseTime.sum(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Get scanned controller count
+     *
+     * @return Controller count
+     */
+    public long getControllers() {
+        return this.controllers.sum();
+    }
+
+    /**
+     * Get scan elapsed time, the controllers are scanned in parallel so the time may exceed the wall time
+     *
+     * @param unit Time unit
+     * @return Elapsed time
+     */
+    public long getScanTime(TimeUnit unit) {
+        return unit.convert(this.scanTime.sum(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Get persistent api cache hit ratio of scanned controllers
+     *
+     * @return Hit ratio
+     */
+    public double getApiCacheHitRatio() {
+        long controllers = this.controllers.sum();
+        return controllers == 0 ? 0 : (double) this.cachedControllers.sum() / controllers;
+    }
+
+    /**
+     * Get schema cache hit ratio of last sample
+     *
+     * @return Hit ratio
+     */
+    public double getSchemaCacheHitRatio() {
+        return this.schemaCacheHitRatio;
+    }
+
+    /**
+     * Get document cache hit ratio of last sample
+     *
+     * @return Hit ratio
+     */
+    public double getDocumentCacheHitRatio() {
+        return this.documentCacheHitRatio;
+    }
+
+    /**
+     * Reset all counters and timers
+     */
+    public void reset() {
+        for (int i = 0; i < PHASES.length; i++) {
+            this.counts[i].reset();
+            this.times[i].reset();
+        }
+        this.apis.reset();
+        this.nodes.reset();
+        this.parseTime.reset();
+        this.controllers.reset();
+        this.cachedControllers.reset();
+        this.scanTime.reset();
+        this.schemaCacheHitRatio = 0;
+        this.documentCacheHitRatio = 0;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("AnalysisMetrics(controllers=").append(this.getControllers())
+                .append(", apis=").append(this.getApis()).append(", nodes=").append(this.getNodes())
+                .append(", scan=").append(this.getScanTime(TimeUnit.MILLISECONDS)).append("ms")
+                .append(", parse=").append(this.getParseTime(TimeUnit.MILLISECONDS)).append("ms");
+        for (Phase phase : PHASES) {
+            builder.append(", ").append(phase.name().toLowerCase()).append('=').append(this.getCount(phase))
+                    .append('/').append(this.getTime(phase, TimeUnit.MILLISECONDS)).append("ms");
+        }
+        return builder.append(String.format(", apiCacheHitRatio=%.2f, schemaCacheHitRatio=%.2f"
+                        + ", documentCacheHitRatio=%.2f)", this.getApiCacheHitRatio(), this.getSchemaCacheHitRatio(),
+                this.getDocumentCacheHitRatio())).toString();
+    }
+}
@@ -13,7 +13,7 @@ import lombok.NoArgsConstructor;
  * @author Woody
  */
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class Api {
@@ -81,4 +81,9 @@ public class Api {
      * Api return parameter
      */
     private Parameter returned;
+
+    /**
+     * Whether the api is partial because the analysis budget of nodes or time is exhausted
+     */
+    private boolean truncated;
 }
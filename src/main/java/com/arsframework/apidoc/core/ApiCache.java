@@ -0,0 +1,517 @@
+package com.arsframework.apidoc.core;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+
+/**
+ * Persistent api cache of controllers, the cache entry is valid while the class files and sources of the controller
+ * and all the classes reached by its apis are unchanged. The class comments loaded by the analysis context are hashed
+ * instead for the classes whose sources are not found, so the comment changes are detected without source directories
+ * <p>
+ * The parameter default values are stored with their runtime classes, so a loaded default value has the same type as
+ * the analysed one, such as {@link java.util.Date}, enum or {@link java.math.BigDecimal}. The elements of untyped
+ * collections and maps are restored as json values, and the entry whose default value can not be restored is treated
+ * as stale.
+ *
+ * @author Woody
+ */
+public class ApiCache {
+    /**
+     * Cache format version
+     */
+    private static final int VERSION = 2;
+
+    /**
+     * Cache file suffix
+     */
+    private static final String CACHE_FILE_SUFFIX = ".json";
+
+    /**
+     * Cache directory
+     */
+    private final File directory;
+
+    /**
+     * Source directories
+     */
+    private final List<File> sources;
+
+    /**
+     * Class and content hash mappings, the hashes are reset when a scan starts
+     */
+    private final Map<Class<?>, Optional<String>> hashes = new ConcurrentHashMap<>();
+
+    /**
+     * Cache hit count
+     */
+    private final AtomicLong hits = new AtomicLong();
+
+    /**
+     * Cache miss count
+     */
+    private final AtomicLong misses = new AtomicLong();
+
+    public ApiCache(File directory, Collection<File> sources) {
+        Objects.requireNonNull(directory, "directory not specified");
+        this.directory = directory;
+        this.sources = sources == null ? Collections.emptyList() : new ArrayList<>(sources);
+    }
+
+    /**
+     * Get cache hit count
+     *
+     * @return Hit count
+     */
+    public long getHits() {
+        return this.hits.get();
+    }
+
+    /**
+     * Get cache miss count
+     *
+     * @return Miss count
+     */
+    public long getMisses() {
+        return this.misses.get();
+    }
+
+    /**
+     * Build object mapper for api serialization
+     *
+     * @param classLoader Class loader
+     * @return Object mapper
+     */
+    private static ObjectMapper buildObjectMapper(ClassLoader classLoader) {
+        SimpleModule module = new SimpleModule();
+        module.addSerializer(Field.class, new JsonSerializer<Field>() {
+            @Override
+            public void serialize(Field field, JsonGenerator generator, SerializerProvider provider)
+                    throws IOException {
+                generator.writeString(field.getDeclaringClass().getName() + '#' + field.getName());
+            }
+        });
+        module.addDeserializer(Field.class, new JsonDeserializer<Field>() {
+            @Override
+            public Field deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+                String value = parser.getValueAsString();
+                int index = value.lastIndexOf('#');
+                try {
+                    return Class.forName(value.substring(0, index), false, classLoader)
+                            .getDeclaredField(value.substring(index + 1));
+                } catch (ReflectiveOperationException | LinkageError e) {
+                    throw new IOException("Invalid field: " + value, e);
+                }
+            }
+        });
+        module.setMixInAnnotation(Parameter.class, ParameterMixin.class);
+        ObjectMapper mapper = new ObjectMapper().registerModule(module);
+        mapper.disable(SerializationFeature.FAIL_ON_EMPTY_BEANS);
+        mapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        mapper.enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+        mapper.setNodeFactory(JsonNodeFactory.withExactBigDecimals(true));
+        mapper.setTypeFactory(TypeFactory.defaultInstance().withClassLoader(classLoader));
+        return mapper;
+    }
+
+    /**
+     * Get class loader of analysis
+     *
+     * @param context    Analysis context
+     * @param controller Controller class
+     * @return Class loader
+     */
+    private static ClassLoader getClassLoader(AnalysisContext context, Class<?> controller) {
+        return context.getClassLoader() == null ? controller.getClassLoader() : context.getClassLoader();
+    }
+
+    /**
+     * Get fingerprint of analysis context
+     *
+     * @param mapper  Object mapper
+     * @param context Analysis context
+     * @param factory Method analyser factory class
+     * @return Context fingerprint
+     * @throws IOException IO exception
+     */
+    private static String getFingerprint(ObjectMapper mapper, AnalysisContext context, Class<?> factory)
+            throws IOException {
+        String name = factory.getName();
+        int index = name.indexOf("$$Lambda$");
+        return VERSION + ":" + (index < 0 ? name : name.substring(0, index)) + ":"
+                + mapper.writeValueAsString(context.getConfiguration()) + ":"
+                + new TreeSet<>(context.getIncludeGroupIdentities());
+    }
+
+    /**
+     * Get cache file of controller
+     *
+     * @param controller Controller class
+     * @return Cache file
+     */
+    private File getCacheFile(Class<?> controller) {
+        return new File(this.directory, controller.getName() + CACHE_FILE_SUFFIX);
+    }
+
+    /**
+     * Get source file of class
+     *
+     * @param clazz Class object
+     * @return Source file
+     */
+    private File getSourceFile(Class<?> clazz) {
+        while (clazz.getEnclosingClass() != null) {
+            clazz = clazz.getEnclosingClass();
+        }
+        String path = clazz.getName().replace('.', File.separatorChar) + ".java";
+        for (File source : this.sources) {
+            File file = new File(source, path);
+            if (file.isFile()) {
+                return file;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Update digest with parsed comment
+     *
+     * @param digest  Message digest
+     * @param comment Parsed comment
+     */
+    private static void digest(MessageDigest digest, ParsedComment comment) {
+        if (comment != null) {
+            digest.update(String.valueOf(comment.getText()).getBytes(StandardCharsets.UTF_8));
+            digest.update(new TreeMap<>(comment.getTags()).toString().getBytes(StandardCharsets.UTF_8));
+        }
+        digest.update((byte) 0);
+    }
+
+    /**
+     * Update digest with class comment
+     *
+     * @param digest  Message digest
+     * @param comment Class comment
+     */
+    private static void digest(MessageDigest digest, ClassComment comment) {
+        digest(digest, comment.getComment());
+        for (Map<String, ParsedComment> members : Arrays.asList(comment.getFields(), comment.getMethods())) {
+            for (Map.Entry<String, ParsedComment> member : new TreeMap<>(members).entrySet()) {
+                digest.update(member.getKey().getBytes(StandardCharsets.UTF_8));
+                digest(digest, member.getValue());
+            }
+            digest.update((byte) 0);
+        }
+    }
+
+    /**
+     * Get content hash of class file and source file, the class comment of analysis context is hashed if the source
+     * file is not found
+     *
+     * @param context Analysis context
+     * @param clazz   Class object
+     * @return Content hash or null if the class file is not found
+     */
+    protected String getHash(AnalysisContext context, Class<?> clazz) {
+        return this.hashes.computeIfAbsent(clazz, c -> {
+            ClassLoader loader = c.getClassLoader();
+            if (loader == null) {
+                return Optional.empty();
+            }
+            try {
+                MessageDigest digest = MessageDigest.getInstance("SHA-1");
+                try (InputStream input = loader.getResourceAsStream(c.getName().replace('.', '/') + ".class")) {
+                    if (input == null) {
+                        return Optional.empty();
+                    }
+                    byte[] buffer = new byte[8192];
+                    for (int length; (length = input.read(buffer)) > 0; ) {
+                        digest.update(buffer, 0, length);
+                    }
+                }
+                File source = this.getSourceFile(c);
+                if (source != null) {
+                    digest.update(Files.readAllBytes(source.toPath()));
+                } else {
+                    ClassComment comment = context.getClassComment(c);
+                    if (comment != null) {
+                        digest(digest, comment);
+                    }
+                }
+                StringBuilder hash = new StringBuilder();
+                for (byte b : digest.digest()) {
+                    hash.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+                }
+                return Optional.of(hash.toString());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }).orElse(null);
+    }
+
+    /**
+     * Reset the loaded class hashes, so the classes and comments changed since the last scan are hashed again
+     */
+    public void reset() {
+        this.hashes.clear();
+    }
+
+    /**
+     * Collect the classes which the apis depend on
+     *
+     * @param context    Analysis context
+     * @param controller Controller class
+     * @param apis       Api list
+     * @return Dependent classes
+     */
+    protected Set<Class<?>> getDependencies(AnalysisContext context, Class<?> controller, List<Api> apis) {
+        Set<Class<?>> classes = new TreeSet<>((a, b) -> a.getName().compareTo(b.getName()));
+        for (Class<?> c = controller; c != null && c != Object.class; c = c.getSuperclass()) {
+            classes.add(c);
+        }
+        for (Api api : apis) {
+            if (api.getParameters() != null) {
+                this.collect(context, api.getParameters(), classes);
+            }
+            if (api.getReturned() != null) {
+                this.collect(context, Collections.singletonList(api.getReturned()), classes);
+            }
+        }
+        return classes;
+    }
+
+    /**
+     * Collect the classes of parameters
+     *
+     * @param context    Analysis context
+     * @param parameters Parameter list
+     * @param classes    Class set
+     */
+    private void collect(AnalysisContext context, List<Parameter> parameters, Set<Class<?>> classes) {
+        for (Parameter parameter : parameters) {
+            Class<?> original = parameter.getOriginal();
+            if (original != null && !original.isPrimitive() && context.isActivePackage(original.getPackage())) {
+                for (Class<?> c = original; c != null && c != Object.class; c = c.getSuperclass()) {
+                    classes.add(c);
+                }
+            }
+            if (parameter.getField() != null) {
+                classes.add(parameter.getField().getDeclaringClass());
+            }
+            if (parameter.getFields() != null) {
+                this.collect(context, parameter.getFields(), classes);
+            }
+        }
+    }
+
+    /**
+     * Load cached apis of controller
+     *
+     * @param context    Analysis context
+     * @param factory    Method analyser factory class
+     * @param controller Controller class
+     * @return Api list or null if the cache entry is missing or stale
+     */
+    public List<Api> load(AnalysisContext context, Class<?> factory, Class<?> controller) {
+        Objects.requireNonNull(context, "context not specified");
+        Objects.requireNonNull(factory, "factory not specified");
+        Objects.requireNonNull(controller, "controller not specified");
+        File file = this.getCacheFile(controller);
+        if (file.isFile()) {
+            ClassLoader classLoader = getClassLoader(context, controller);
+            ObjectMapper mapper = buildObjectMapper(classLoader);
+            try {
+                JsonNode entry = mapper.readTree(file);
+                if (this.isValid(mapper, context, factory, classLoader, entry)) {
+                    List<Api> apis = new ArrayList<>(entry.path("apis").size());
+                    for (JsonNode api : entry.path("apis")) {
+                        apis.add(mapper.treeToValue(api, Api.class));
+                    }
+                    this.hits.incrementAndGet();
+                    return apis;
+                }
+            } catch (IOException | RuntimeException e) {
+                // Treat the broken cache entry as stale
+            }
+        }
+        this.misses.incrementAndGet();
+        return null;
+    }
+
+    /**
+     * Judge whether the cache entry is valid
+     *
+     * @param mapper      Object mapper
+     * @param context     Analysis context
+     * @param factory     Method analyser factory class
+     * @param classLoader Class loader
+     * @param entry       Cache entry
+     * @return true/false
+     * @throws IOException IO exception
+     */
+    private boolean isValid(ObjectMapper mapper, AnalysisContext context, Class<?> factory, ClassLoader classLoader,
+                            JsonNode entry) throws IOException {
+        if (!getFingerprint(mapper, context, factory).equals(entry.path("fingerprint").asText())) {
+            return false;
+        }
+        JsonNode dependencies = entry.path("dependencies");
+        if (!dependencies.isObject() || dependencies.size() == 0) {
+            return false;
+        }
+        for (Iterator<Map.Entry<String, JsonNode>> iterator = dependencies.fields(); iterator.hasNext(); ) {
+            Map.Entry<String, JsonNode> dependency = iterator.next();
+            Class<?> clazz;
+            try {
+                clazz = Class.forName(dependency.getKey(), false, classLoader);
+            } catch (ClassNotFoundException | LinkageError e) {
+                return false;
+            }
+            if (!dependency.getValue().asText().equals(this.getHash(context, clazz))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Store apis of controller to cache
+     *
+     * @param context    Analysis context
+     * @param factory    Method analyser factory class
+     * @param controller Controller class
+     * @param apis       Api list
+     */
+    public void store(AnalysisContext context, Class<?> factory, Class<?> controller, List<Api> apis) {
+        Objects.requireNonNull(context, "context not specified");
+        Objects.requireNonNull(factory, "factory not specified");
+        Objects.requireNonNull(controller, "controller not specified");
+        Objects.requireNonNull(apis, "apis not specified");
+        ObjectMapper mapper = buildObjectMapper(getClassLoader(context, controller));
+        Map<String, String> dependencies = new TreeMap<>();
+        for (Class<?> clazz : this.getDependencies(context, controller, apis)) {
+            String hash = this.getHash(context, clazz);
+            if (hash != null) {
+                dependencies.put(clazz.getName(), hash);
+            }
+        }
+        if (!dependencies.containsKey(controller.getName())) {
+            return;
+        }
+        File file = this.getCacheFile(controller);
+        try {
+            ObjectNode entry = mapper.createObjectNode();
+            entry.put("fingerprint", getFingerprint(mapper, context, factory));
+            entry.set("dependencies", mapper.valueToTree(dependencies));
+            entry.set("apis", mapper.valueToTree(apis));
+            if (!this.directory.exists()) {
+                this.directory.mkdirs();
+            }
+            File temp = File.createTempFile(controller.getName(), CACHE_FILE_SUFFIX, this.directory);
+            try {
+                mapper.writeValue(temp, entry);
+                Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            } finally {
+                temp.delete();
+            }
+        } catch (IOException | RuntimeException e) {
+            // The apis which can not be serialized are analysed every time
+            file.delete();
+        }
+    }
+
+    /**
+     * Clear cache entries and loaded class hashes
+     */
+    public void clear() {
+        this.hashes.clear();
+        for (File file : DocumentHelper.listDirectoryFiles(this.directory)) {
+            if (file.isFile() && file.getName().endsWith(CACHE_FILE_SUFFIX)) {
+                file.delete();
+            }
+        }
+    }
+
+    /**
+     * Parameter serialization mixin which keeps the runtime class of default value
+     */
+    private abstract static class ParameterMixin {
+        /**
+         * Parameter default value
+         */
+        @JsonSerialize(using = TypedValueSerializer.class)
+        @JsonDeserialize(using = TypedValueDeserializer.class)
+        private Object defaultValue;
+    }
+
+    /**
+     * Serializer which writes the value with its runtime class name
+     */
+    private static final class TypedValueSerializer extends JsonSerializer<Object> {
+        @Override
+        public void serialize(Object value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            generator.writeStartObject();
+            generator.writeStringField("type", value.getClass().getName());
+            generator.writeFieldName("value");
+            provider.defaultSerializeValue(value, generator);
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * Deserializer which reads the value as its persisted runtime class
+     */
+    private static final class TypedValueDeserializer extends JsonDeserializer<Object> {
+        @Override
+        public Object deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            JsonNode node = parser.readValueAsTree();
+            String name = node.path("type").asText();
+            Class<?> type;
+            try {
+                type = context.getTypeFactory().findClass(name);
+            } catch (ClassNotFoundException | LinkageError e) {
+                throw new IOException("Invalid value type: " + name, e);
+            }
+            return parser.getCodec().treeToValue(node.path("value"), type);
+        }
+    }
+}
@@ -0,0 +1,379 @@
+package com.arsframework.apidoc.core;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.springframework.util.ClassUtils;
+
+/**
+ * Binary api catalog reader which maps the catalog file written by {@link ApiCatalogWriter} into memory, only the
+ * offset index is read on open, the strings and apis are decoded lazily on access
+ *
+ * @author Woody
+ */
+public class ApiCatalog implements Closeable {
+    /**
+     * Catalog file channel
+     */
+    private final FileChannel channel;
+
+    /**
+     * Mapped catalog buffer
+     */
+    private final ByteBuffer buffer;
+
+    /**
+     * Class loader for parameter types
+     */
+    private final ClassLoader classLoader;
+
+    /**
+     * String table offset
+     */
+    private final int stringOffset;
+
+    /**
+     * Decoded strings
+     */
+    private final String[] strings;
+
+    /**
+     * Api key string ids sorted by key
+     */
+    private final int[] keys;
+
+    /**
+     * Api tag string ids
+     */
+    private final int[] tags;
+
+    /**
+     * Api record offsets
+     */
+    private final int[] offsets;
+
+    /**
+     * Tag and api indexes mappings
+     */
+    private volatile Map<String, List<Integer>> tagIndexes;
+
+    public ApiCatalog(File file) throws IOException {
+        this(file, Thread.currentThread().getContextClassLoader());
+    }
+
+    public ApiCatalog(File file, ClassLoader classLoader) throws IOException {
+        Objects.requireNonNull(file, "file not specified");
+        this.classLoader = classLoader;
+        this.channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+        try {
+            if (this.channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Catalog file is too large: " + file);
+            }
+            MappedByteBuffer buffer = this.channel.map(FileChannel.MapMode.READ_ONLY, 0, this.channel.size());
+            if (buffer.capacity() < ApiCatalogWriter.HEADER_SIZE || buffer.getInt(0) != ApiCatalogWriter.MAGIC) {
+                throw new IOException("Invalid catalog file: " + file);
+            }
+            if (buffer.getInt(4) != ApiCatalogWriter.VERSION) {
+                throw new IOException("Unsupported catalog version: " + buffer.getInt(4));
+            }
+            int size = buffer.getInt(8);
+            this.buffer = buffer;
+            this.strings = new String[buffer.getInt(12)];
+            this.stringOffset = (int) buffer.getLong(16);
+            this.keys = new int[size];
+            this.tags = new int[size];
+            this.offsets = new int[size];
+            int position = (int) buffer.getLong(24);
+            for (int i = 0; i < size; i++, position += 16) {
+                this.keys[i] = buffer.getInt(position);
+                this.tags[i] = buffer.getInt(position + 4);
+                this.offsets[i] = (int) buffer.getLong(position + 8);
+            }
+        } catch (IOException | RuntimeException e) {
+            this.channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Get string of string table
+     *
+     * @param id String table id
+     * @return String value
+     */
+    private String getString(int id) {
+        if (id < 0) {
+            return null;
+        }
+        String value = this.strings[id];
+        if (value == null) {
+            int start = this.buffer.getInt(this.stringOffset + id * 4);
+            int end = this.buffer.getInt(this.stringOffset + id * 4 + 4);
+            byte[] bytes = new byte[end - start];
+            ByteBuffer data = this.buffer.duplicate();
+            data.position(this.stringOffset + (this.strings.length + 1) * 4 + start);
+            data.get(bytes);
+            this.strings[id] = value = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return value;
+    }
+
+    /**
+     * Get api size
+     *
+     * @return Api size
+     */
+    public int size() {
+        return this.keys.length;
+    }
+
+    /**
+     * Get api key of index
+     *
+     * @param index Api index
+     * @return Api key
+     */
+    public String getKey(int index) {
+        return this.getString(this.keys[index]);
+    }
+
+    /**
+     * Get api of index, the apis are sorted by key
+     *
+     * @param index Api index
+     * @return Api object
+     */
+    public Api getApi(int index) {
+        ByteBuffer data = this.buffer.duplicate();
+        data.position(this.offsets[index]);
+        return this.readApi(data);
+    }
+
+    /**
+     * Get api by key
+     *
+     * @param key Api key
+     * @return Api object or null if not found
+     */
+    public Api getApi(String key) {
+        Objects.requireNonNull(key, "key not specified");
+        int low = 0, high = this.keys.length - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            String value = this.getKey(middle);
+            int compare = value == null ? -1 : value.compareTo(key);
+            if (compare < 0) {
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return low < this.keys.length && key.equals(this.getKey(low)) ? this.getApi(low) : null;
+    }
+
+    /**
+     * Get apis of tag
+     *
+     * @param tag Api tag
+     * @return Api objects
+     */
+    public List<Api> getApis(String tag) {
+        List<Integer> indexes = this.getTagIndexes().get(tag);
+        if (indexes == null) {
+            return Collections.emptyList();
+        }
+        List<Api> apis = new ArrayList<>(indexes.size());
+        for (Integer index : indexes) {
+            apis.add(this.getApi(index));
+        }
+        return apis;
+    }
+
+    /**
+     * Get api tags
+     *
+     * @return Api tags
+     */
+    public List<String> getTags() {
+        return new ArrayList<>(this.getTagIndexes().keySet());
+    }
+
+    /**
+     * Get tag and api indexes mappings
+     *
+     * @return Tag and api indexes mappings
+     */
+    private Map<String, List<Integer>> getTagIndexes() {
+        Map<String, List<Integer>> indexes = this.tagIndexes;
+        if (indexes == null) {
+            indexes = new LinkedHashMap<>();
+            for (int i = 0; i < this.tags.length; i++) {
+                indexes.computeIfAbsent(this.getString(this.tags[i]), tag -> new ArrayList<>()).add(i);
+            }
+            this.tagIndexes = indexes = Collections.unmodifiableMap(indexes);
+        }
+        return indexes;
+    }
+
+    /**
+     * Read api record
+     *
+     * @param data Catalog data
+     * @return Api object
+     */
+    private Api readApi(ByteBuffer data) {
+        Api api = Api.builder().key(this.readString(data)).name(this.readString(data)).tag(this.readString(data))
+                .uri(this.readString(data)).mode(this.readString(data)).date(this.readString(data))
+                .version(this.readString(data)).description(this.readString(data)).build();
+        int flags = data.get();
+        api.setDeprecated((flags & ApiCatalogWriter.API_DEPRECATED) != 0);
+        api.setTruncated((flags & ApiCatalogWriter.API_TRUNCATED) != 0);
+        api.setAuthors(this.readStrings(data));
+        api.setMethods(this.readStrings(data));
+        api.setParameters(this.readParameters(data));
+        if ((flags & ApiCatalogWriter.API_RETURNED) != 0) {
+            api.setReturned(this.readParameter(data));
+        }
+        return api;
+    }
+
+    /**
+     * Read parameter record
+     *
+     * @param data Catalog data
+     * @return Parameter object
+     */
+    private Parameter readParameter(ByteBuffer data) {
+        int flags = data.get();
+        Parameter parameter = Parameter.builder().input((flags & ApiCatalogWriter.PARAMETER_INPUT) != 0)
+                .required((flags & ApiCatalogWriter.PARAMETER_REQUIRED) != 0)
+                .multiple((flags & ApiCatalogWriter.PARAMETER_MULTIPLE) != 0)
+                .deprecated((flags & ApiCatalogWriter.PARAMETER_DEPRECATED) != 0)
+                .truncated((flags & ApiCatalogWriter.PARAMETER_TRUNCATED) != 0)
+                .type(this.readClass(data)).original(this.readClass(data)).name(this.readString(data))
+                .entry(this.readString(data)).format(this.readString(data)).example(this.readString(data))
+                .description(this.readString(data)).reference(this.readString(data)).build();
+        if ((flags & ApiCatalogWriter.PARAMETER_SIZE) != 0) {
+            Double min = (flags & ApiCatalogWriter.PARAMETER_MIN) == 0 ? null : data.getDouble();
+            Double max = (flags & ApiCatalogWriter.PARAMETER_MAX) == 0 ? null : data.getDouble();
+            parameter.setSize(Parameter.Size.builder().min(min).max(max).build());
+        }
+        parameter.setDefaultValue(this.readValue(data));
+        int size = data.getInt();
+        if (size >= 0) {
+            List<Parameter.Option> options = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                options.add(Parameter.Option.builder().key(this.readString(data)).value(this.readString(data))
+                        .deprecated(data.get() != 0).build());
+            }
+            parameter.setOptions(options);
+        }
+        parameter.setFields(this.readParameters(data));
+        return parameter;
+    }
+
+    /**
+     * Read parameter records
+     *
+     * @param data Catalog data
+     * @return Parameter objects
+     */
+    private List<Parameter> readParameters(ByteBuffer data) {
+        int size = data.getInt();
+        if (size < 0) {
+            return null;
+        }
+        List<Parameter> parameters = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            parameters.add(this.readParameter(data));
+        }
+        return parameters;
+    }
+
+    /**
+     * Read string
+     *
+     * @param data Catalog data
+     * @return String value
+     */
+    private String readString(ByteBuffer data) {
+        return this.getString(data.getInt());
+    }
+
+    /**
+     * Read strings
+     *
+     * @param data Catalog data
+     * @return String values
+     */
+    private List<String> readStrings(ByteBuffer data) {
+        int size = data.getInt();
+        if (size < 0) {
+            return null;
+        }
+        List<String> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            values.add(this.readString(data));
+        }
+        return values;
+    }
+
+    /**
+     * Read class, the class which can not be loaded is returned as null
+     *
+     * @param data Catalog data
+     * @return Class object
+     */
+    private Class<?> readClass(ByteBuffer data) {
+        String name = this.readString(data);
+        if (name == null) {
+            return null;
+        }
+        Class<?> primitive = ClassUtils.resolvePrimitiveClassName(name);
+        if (primitive != null) {
+            return primitive;
+        }
+        try {
+            return Class.forName(name, false, this.classLoader);
+        } catch (ClassNotFoundException | LinkageError e) {
+            return null;
+        }
+    }
+
+    /**
+     * Read default value
+     *
+     * @param data Catalog data
+     * @return Default value
+     */
+    private Object readValue(ByteBuffer data) {
+        int kind = data.get();
+        if (kind == ApiCatalogWriter.VALUE_BOOLEAN) {
+            return data.get() != 0;
+        } else if (kind == ApiCatalogWriter.VALUE_LONG) {
+            return data.getLong();
+        } else if (kind == ApiCatalogWriter.VALUE_DOUBLE) {
+            return data.getDouble();
+        } else if (kind == ApiCatalogWriter.VALUE_STRING) {
+            return this.readString(data);
+        }
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.channel.close();
+    }
+}
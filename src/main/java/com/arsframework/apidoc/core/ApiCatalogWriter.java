@@ -0,0 +1,379 @@
+package com.arsframework.apidoc.core;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Compact binary catalog writer of api, the api records are written as soon as they are received, the string table and
+ * the offset index which is sorted by api key are written on close, the file layout is:
+ * <pre>
+ * header:  magic(int) version(int) apis(int) strings(int) string table offset(long) index offset(long)
+ * records: api records which refer to strings by string table id (-1 for null)
+ * strings: string offsets(int[strings + 1]) string bytes(utf-8)
+ * index:   key(int) tag(int) record offset(long) of each api
+ * </pre>
+ *
+ * @author Woody
+ */
+public class ApiCatalogWriter implements Consumer<Api>, Closeable {
+    /**
+     * Catalog file magic
+     */
+    public static final int MAGIC = 0x41504943;
+
+    /**
+     * Catalog file version
+     */
+    public static final int VERSION = 1;
+
+    /**
+     * Catalog file header size
+     */
+    static final int HEADER_SIZE = 32;
+
+    /**
+     * Api deprecated flag
+     */
+    static final int API_DEPRECATED = 1;
+
+    /**
+     * Api returned parameter present flag
+     */
+    static final int API_RETURNED = 1 << 1;
+
+    /**
+     * Api truncated flag
+     */
+    static final int API_TRUNCATED = 1 << 2;
+
+    /**
+     * Parameter input flag
+     */
+    static final int PARAMETER_INPUT = 1;
+
+    /**
+     * Parameter required flag
+     */
+    static final int PARAMETER_REQUIRED = 1 << 1;
+
+    /**
+     * Parameter multiple flag
+     */
+    static final int PARAMETER_MULTIPLE = 1 << 2;
+
+    /**
+     * Parameter deprecated flag
+     */
+    static final int PARAMETER_DEPRECATED = 1 << 3;
+
+    /**
+     * Parameter size min value present flag
+     */
+    static final int PARAMETER_MIN = 1 << 4;
+
+    /**
+     * Parameter size max value present flag
+     */
+    static final int PARAMETER_MAX = 1 << 5;
+
+    /**
+     * Parameter size present flag
+     */
+    static final int PARAMETER_SIZE = 1 << 6;
+
+    /**
+     * Parameter truncated flag
+     */
+    static final int PARAMETER_TRUNCATED = 1 << 7;
+
+    /**
+     * Null default value kind
+     */
+    static final int VALUE_NULL = 0;
+
+    /**
+     * Boolean default value kind
+     */
+    static final int VALUE_BOOLEAN = 1;
+
+    /**
+     * Integral default value kind
+     */
+    static final int VALUE_LONG = 2;
+
+    /**
+     * Decimal default value kind
+     */
+    static final int VALUE_DOUBLE = 3;
+
+    /**
+     * String default value kind
+     */
+    static final int VALUE_STRING = 4;
+
+    /**
+     * Catalog file channel
+     */
+    private final FileChannel channel;
+
+    /**
+     * Catalog record output
+     */
+    private final DataOutputStream output;
+
+    /**
+     * String and string table id mappings
+     */
+    private final Map<String, Integer> ids = new HashMap<>();
+
+    /**
+     * String table
+     */
+    private final List<String> strings = new ArrayList<>();
+
+    /**
+     * Api index entries
+     */
+    private final List<long[]> index = new ArrayList<>();
+
+    /**
+     * Current record offset
+     */
+    private long offset = HEADER_SIZE;
+
+    /**
+     * Whether the writer is closed
+     */
+    private boolean closed;
+
+    public ApiCatalogWriter(File file) throws IOException {
+        Objects.requireNonNull(file, "file not specified");
+        this.channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        this.channel.position(HEADER_SIZE);
+        this.output = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(this.channel)));
+    }
+
+    /**
+     * Get string table id
+     *
+     * @param value String value
+     * @return String table id or -1 if the value is null
+     */
+    private int getStringId(String value) {
+        if (value == null) {
+            return -1;
+        }
+        Integer id = this.ids.get(value);
+        if (id == null) {
+            this.ids.put(value, id = this.strings.size());
+            this.strings.add(value);
+        }
+        return id;
+    }
+
+    /**
+     * Write api record
+     *
+     * @param api Api object
+     * @throws IOException IO exception
+     */
+    public synchronized void write(Api api) throws IOException {
+        Objects.requireNonNull(api, "api not specified");
+        if (this.closed) {
+            throw new IOException("Catalog writer is closed");
+        }
+        this.index.add(new long[]{this.getStringId(api.getKey()), this.getStringId(api.getTag()), this.offset});
+        int start = this.output.size();
+        this.writeString(api.getKey());
+        this.writeString(api.getName());
+        this.writeString(api.getTag());
+        this.writeString(api.getUri());
+        this.writeString(api.getMode());
+        this.writeString(api.getDate());
+        this.writeString(api.getVersion());
+        this.writeString(api.getDescription());
+        this.output.writeByte((api.isDeprecated() ? API_DEPRECATED : 0)
+                | (api.getReturned() == null ? 0 : API_RETURNED) | (api.isTruncated() ? API_TRUNCATED : 0));
+        this.writeStrings(api.getAuthors());
+        this.writeStrings(api.getMethods());
+        this.writeParameters(api.getParameters());
+        if (api.getReturned() != null) {
+            this.writeParameter(api.getReturned());
+        }
+        this.offset += this.output.size() - start;
+    }
+
+    /**
+     * Write parameter record
+     *
+     * @param parameter Parameter object
+     * @throws IOException IO exception
+     */
+    private void writeParameter(Parameter parameter) throws IOException {
+        Parameter.Size size = parameter.getSize();
+        int flags = (parameter.isInput() ? PARAMETER_INPUT : 0) | (parameter.isRequired() ? PARAMETER_REQUIRED : 0)
+                | (parameter.isMultiple() ? PARAMETER_MULTIPLE : 0)
+                | (parameter.isDeprecated() ? PARAMETER_DEPRECATED : 0)
+                | (parameter.isTruncated() ? PARAMETER_TRUNCATED : 0);
+        if (size != null) {
+            flags |= PARAMETER_SIZE | (size.getMin() == null ? 0 : PARAMETER_MIN)
+                    | (size.getMax() == null ? 0 : PARAMETER_MAX);
+        }
+        this.output.writeByte(flags);
+        this.writeString(parameter.getType() == null ? null : parameter.getType().getName());
+        this.writeString(parameter.getOriginal() == null ? null : parameter.getOriginal().getName());
+        this.writeString(parameter.getName());
+        this.writeString(parameter.getEntry());
+        this.writeString(parameter.getFormat());
+        this.writeString(parameter.getExample());
+        this.writeString(parameter.getDescription());
+        this.writeString(parameter.getReference());
+        if (size != null && size.getMin() != null) {
+            this.output.writeDouble(size.getMin());
+        }
+        if (size != null && size.getMax() != null) {
+            this.output.writeDouble(size.getMax());
+        }
+        this.writeValue(parameter.getDefaultValue());
+        List<Parameter.Option> options = parameter.getOptions();
+        this.output.writeInt(options == null ? -1 : options.size());
+        if (options != null) {
+            for (Parameter.Option option : options) {
+                this.writeString(option.getKey());
+                this.writeString(option.getValue());
+                this.output.writeBoolean(option.isDeprecated());
+            }
+        }
+        this.writeParameters(parameter.getFields());
+    }
+
+    /**
+     * Write parameter records
+     *
+     * @param parameters Parameter objects
+     * @throws IOException IO exception
+     */
+    private void writeParameters(List<Parameter> parameters) throws IOException {
+        this.output.writeInt(parameters == null ? -1 : parameters.size());
+        if (parameters != null) {
+            for (Parameter parameter : parameters) {
+                this.writeParameter(parameter);
+            }
+        }
+    }
+
+    /**
+     * Write string id
+     *
+     * @param value String value
+     * @throws IOException IO exception
+     */
+    private void writeString(String value) throws IOException {
+        this.output.writeInt(this.getStringId(value));
+    }
+
+    /**
+     * Write string ids
+     *
+     * @param values String values
+     * @throws IOException IO exception
+     */
+    private void writeStrings(List<String> values) throws IOException {
+        this.output.writeInt(values == null ? -1 : values.size());
+        if (values != null) {
+            for (String value : values) {
+                this.writeString(value);
+            }
+        }
+    }
+
+    /**
+     * Write default value, the value which is not number or boolean is written as string
+     *
+     * @param value Default value
+     * @throws IOException IO exception
+     */
+    private void writeValue(Object value) throws IOException {
+        if (value == null) {
+            this.output.writeByte(VALUE_NULL);
+        } else if (value instanceof Boolean) {
+            this.output.writeByte(VALUE_BOOLEAN);
+            this.output.writeBoolean((Boolean) value);
+        } else if (value instanceof Long || value instanceof Integer || value instanceof Short
+                || value instanceof Byte) {
+            this.output.writeByte(VALUE_LONG);
+            this.output.writeLong(((Number) value).longValue());
+        } else if (value instanceof Double || value instanceof Float) {
+            this.output.writeByte(VALUE_DOUBLE);
+            this.output.writeDouble(((Number) value).doubleValue());
+        } else {
+            this.output.writeByte(VALUE_STRING);
+            this.writeString(value instanceof Enum ? ((Enum<?>) value).name() : value.toString());
+        }
+    }
+
+    @Override
+    public void accept(Api api) {
+        try {
+            this.write(api);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (this.closed) {
+            return;
+        }
+        this.closed = true;
+        try {
+            long stringOffset = this.offset;
+            int length = 0;
+            byte[][] bytes = new byte[this.strings.size()][];
+            this.output.writeInt(length);
+            for (int i = 0; i < bytes.length; i++) {
+                bytes[i] = this.strings.get(i).getBytes(StandardCharsets.UTF_8);
+                this.output.writeInt(length += bytes[i].length);
+            }
+            for (byte[] value : bytes) {
+                this.output.write(value);
+            }
+            long indexOffset = stringOffset + (bytes.length + 1) * 4L + length;
+            this.index.sort(Comparator.comparing(entry -> entry[0] < 0 ? null : this.strings.get((int) entry[0]),
+                    Comparator.nullsFirst(Comparator.naturalOrder())));
+            for (long[] entry : this.index) {
+                this.output.writeInt((int) entry[0]);
+                this.output.writeInt((int) entry[1]);
+                this.output.writeLong(entry[2]);
+            }
+            this.output.flush();
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            header.putInt(MAGIC).putInt(VERSION).putInt(this.index.size()).putInt(bytes.length)
+                    .putLong(stringOffset).putLong(indexOffset).flip();
+            while (header.hasRemaining()) {
+                this.channel.write(header, header.position());
+            }
+        } finally {
+            this.output.close();
+        }
+    }
+}
@@ -0,0 +1,420 @@
+package com.arsframework.apidoc.core;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Method;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Enumeration;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Consumer;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+/**
+ * Api scanner which analyses controllers in parallel
+ *
+ * @author Woody
+ */
+public class ApiScanner {
+    /**
+     * Class file suffix
+     */
+    private static final String CLASS_FILE_SUFFIX = ".class";
+
+    /**
+     * Method comparator for deterministic order
+     */
+    private static final Comparator<Method> METHOD_COMPARATOR = Comparator.comparing(Method::getName)
+            .thenComparing(method -> Arrays.toString(method.getParameterTypes()));
+
+    /**
+     * Analysis context
+     */
+    private final AnalysisContext context;
+
+    /**
+     * Controller classes
+     */
+    private final List<Class<?>> classes;
+
+    /**
+     * Method analyser factory
+     */
+    private MethodAnalyser.Factory factory = new MethodAnalyser.Factory() {
+        @Override
+        public MethodAnalyser build(Method method) {
+            return new MethodAnalyser(method);
+        }
+
+        @Override
+        public MethodAnalyser build(AnalysisContext context, Method method) {
+            return new MethodAnalyser(context, method);
+        }
+    };
+
+    /**
+     * Task executor
+     */
+    private Executor executor;
+
+    /**
+     * Persistent api cache
+     */
+    private ApiCache cache;
+
+    /**
+     * Number of controllers which are scanned ahead of the consumer
+     */
+    private int window = Runtime.getRuntime().availableProcessors() * 2;
+
+    public ApiScanner(AnalysisContext context, Collection<Class<?>> classes) {
+        Objects.requireNonNull(context, "context not specified");
+        Objects.requireNonNull(classes, "classes not specified");
+        this.context = context;
+        this.classes = new ArrayList<>(new LinkedHashSet<>(classes));
+        this.classes.removeIf(clazz -> !DocumentHelper.isApiClass(clazz));
+        this.classes.sort(Comparator.comparing(Class::getName));
+    }
+
+    public ApiScanner(AnalysisContext context, String... packages) {
+        this(context, lookupClasses(Objects.requireNonNull(context, "context not specified").getClassLoader(),
+                packages));
+    }
+
+    /**
+     * Get analysis context
+     *
+     * @return Analysis context
+     */
+    public AnalysisContext getContext() {
+        return this.context;
+    }
+
+    /**
+     * Get controller classes
+     *
+     * @return Controller classes
+     */
+    public List<Class<?>> getClasses() {
+        return this.classes;
+    }
+
+    /**
+     * Set method analyser factory
+     *
+     * @param factory Method analyser factory
+     */
+    public void setFactory(MethodAnalyser.Factory factory) {
+        this.factory = Objects.requireNonNull(factory, "factory not specified");
+    }
+
+    /**
+     * Set task executor, the common fork join pool is used if not specified
+     *
+     * @param executor Task executor
+     */
+    public void setExecutor(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Set number of controllers which are scanned ahead of the consumer
+     *
+     * @param window Scanning window size
+     */
+    public void setWindow(int window) {
+        if (window < 1) {
+            throw new IllegalArgumentException("Invalid window: " + window);
+        }
+        this.window = window;
+    }
+
+    /**
+     * Set persistent api cache, only the controllers whose dependencies changed are analysed again
+     *
+     * @param cache Persistent api cache
+     */
+    public void setCache(ApiCache cache) {
+        this.cache = cache;
+    }
+
+    /**
+     * Lookup classes of packages from class loader
+     *
+     * @param classLoader Class loader
+     * @param packages    Package prefixes
+     * @return Class list
+     */
+    public static List<Class<?>> lookupClasses(ClassLoader classLoader, String... packages) {
+        Objects.requireNonNull(classLoader, "classLoader not specified");
+        Set<String> names = new LinkedHashSet<>();
+        try {
+            for (String pkg : packages == null || packages.length == 0 ? new String[]{""} : packages) {
+                String path = pkg.replace('.', '/');
+                Enumeration<URL> resources = classLoader.getResources(path);
+                while (resources.hasMoreElements()) {
+                    URL resource = resources.nextElement();
+                    URLConnection connection = resource.openConnection();
+                    if (connection instanceof JarURLConnection) {
+                        lookupJarClassNames(((JarURLConnection) connection).getJarFile(), path, names);
+                    } else if ("file".equals(resource.getProtocol())) {
+                        lookupDirectoryClassNames(toFile(resource), pkg, names);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        List<Class<?>> classes = new ArrayList<>(names.size());
+        for (String name : names) {
+            try {
+                classes.add(Class.forName(name, false, classLoader));
+            } catch (ClassNotFoundException | LinkageError e) {
+                // Ignore the class which can not be loaded
+            }
+        }
+        return classes;
+    }
+
+    /**
+     * Convert file url to file, the url which is not escaped is taken as a plain path
+     *
+     * @param url File url
+     * @return File object
+     */
+    private static File toFile(URL url) {
+        try {
+            return new File(url.toURI());
+        } catch (URISyntaxException | IllegalArgumentException e) {
+            return new File(url.getFile());
+        }
+    }
+
+    /**
+     * Lookup class names of jar file
+     *
+     * @param jar   Jar file
+     * @param path  Package path
+     * @param names Class names
+     */
+    private static void lookupJarClassNames(JarFile jar, String path, Set<String> names) {
+        String prefix = path.isEmpty() ? path : path + '/';
+        Enumeration<JarEntry> entries = jar.entries();
+        while (entries.hasMoreElements()) {
+            String name = entries.nextElement().getName();
+            if (name.startsWith(prefix) && name.endsWith(CLASS_FILE_SUFFIX)) {
+                names.add(name.substring(0, name.length() - CLASS_FILE_SUFFIX.length()).replace('/', '.'));
+            }
+        }
+    }
+
+    /**
+     * Lookup class names of directory
+     *
+     * @param directory Class directory
+     * @param pkg       Package name
+     * @param names     Class names
+     */
+    private static void lookupDirectoryClassNames(File directory, String pkg, Set<String> names) {
+        for (File file : DocumentHelper.listDirectoryFiles(directory)) {
+            String name = pkg.isEmpty() ? file.getName() : pkg + '.' + file.getName();
+            if (file.isDirectory()) {
+                lookupDirectoryClassNames(file, name, names);
+            } else if (name.endsWith(CLASS_FILE_SUFFIX)) {
+                names.add(name.substring(0, name.length() - CLASS_FILE_SUFFIX.length()));
+            }
+        }
+    }
+
+    /**
+     * Get api methods of controller in deterministic order
+     *
+     * @param controller Controller class
+     * @return Method list
+     */
+    protected List<Method> getApiMethods(Class<?> controller) {
+        List<Method> methods = new ArrayList<>();
+        for (Method method : controller.getDeclaredMethods()) {
+            if (!method.isSynthetic() && !method.isBridge() && DocumentHelper.isApiMethod(method)) {
+                methods.add(method);
+            }
+        }
+        methods.sort(METHOD_COMPARATOR);
+        return methods;
+    }
+
+    /**
+     * Scan apis of controller
+     *
+     * @param controller Controller class
+     * @return Api list
+     */
+    protected List<Api> scan(Class<?> controller) {
+        return this.scan(controller, api -> {
+        });
+    }
+
+    /**
+     * Scan apis of controller, each api is pushed to consumer as soon as it is parsed or loaded from cache
+     *
+     * @param controller Controller class
+     * @param consumer   Api consumer
+     * @return Api list
+     */
+    protected List<Api> scan(Class<?> controller, Consumer<? super Api> consumer) {
+        Objects.requireNonNull(consumer, "consumer not specified");
+        AnalysisListener listener = this.context.getListener();
+        long start = listener == null ? 0 : System.nanoTime();
+        Object event = AnalysisEvents.beginScan(controller);
+        List<Api> apis = this.cache == null ? null : this.cache.load(this.context, this.factory.getClass(), controller);
+        if (apis != null) {
+            for (Api api : apis) {
+                this.context.getStringPool().canonicalize(api, true);
+                consumer.accept(api);
+            }
+            AnalysisEvents.commitScan(event, apis.size(), true);
+            if (listener != null) {
+                listener.onScanned(this.context, controller, apis, true, System.nanoTime() - start);
+            }
+            return apis;
+        }
+        List<Method> methods = this.getApiMethods(controller);
+        apis = new ArrayList<>(methods.size());
+        AnalysisContext current = ContextHelper.peekContext();
+        ContextHelper.setContext(this.context);
+        try {
+            for (Method method : methods) {
+                MethodAnalyser analyser = this.factory.build(this.context, method);
+                Objects.requireNonNull(analyser, "MethodAnalyser must not be null");
+                Api api = analyser.parse();
+                apis.add(api);
+                consumer.accept(api);
+            }
+        } finally {
+            if (current == null) {
+                ContextHelper.clear();
+            } else {
+                ContextHelper.setContext(current);
+            }
+            this.context.evictDocument(controller);
+        }
+        if (this.cache != null && apis.stream().noneMatch(Api::isTruncated)) {
+            this.cache.store(this.context, this.factory.getClass(), controller, apis);
+        }
+        AnalysisEvents.commitScan(event, apis.size(), false);
+        if (listener != null) {
+            listener.onScanned(this.context, controller, apis, false, System.nanoTime() - start);
+        }
+        return apis;
+    }
+
+    /**
+     * Scan apis of all controllers, the result is ordered by controller name and method signature
+     *
+     * @return Api list
+     */
+    public List<Api> scan() {
+        List<Api> apis = new ArrayList<>();
+        this.scan(apis::add);
+        return apis;
+    }
+
+    /**
+     * Scan apis of all controllers and push them to consumer in the order of controller name and method signature,
+     * the apis of the first controller in scanning window are pushed as soon as they are parsed, and at most the apis
+     * of the controllers in scanning window are held in memory
+     *
+     * @param consumer Api consumer
+     */
+    public void scan(Consumer<? super Api> consumer) {
+        Objects.requireNonNull(consumer, "consumer not specified");
+        if (this.cache != null) {
+            this.cache.reset();
+        }
+        Executor executor = this.executor == null ? ForkJoinPool.commonPool() : this.executor;
+        Deque<Scanning> scannings = new ArrayDeque<>(this.window);
+        Iterator<Class<?>> iterator = this.classes.iterator();
+        try {
+            while (iterator.hasNext() || !scannings.isEmpty()) {
+                while (iterator.hasNext() && scannings.size() < this.window) {
+                    Class<?> controller = iterator.next();
+                    Scanning scanning = new Scanning();
+                    scanning.future = CompletableFuture.runAsync(() -> this.scan(controller, scanning.items::add),
+                            executor);
+                    scanning.future.whenComplete((result, e) -> scanning.items.add(e == null ? Scanning.END : e));
+                    scannings.addLast(scanning);
+                }
+                Scanning scanning = scannings.removeFirst();
+                for (Api api; (api = scanning.take()) != null; ) {
+                    consumer.accept(api);
+                }
+            }
+        } catch (CompletionException e) {
+            scannings.forEach(scanning -> scanning.future.cancel(false));
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+        }
+    }
+
+    /**
+     * Scanning of controller, the apis are queued by the scanning task and taken by the consumer
+     */
+    private static final class Scanning {
+        /**
+         * End of scanning marker
+         */
+        private static final Object END = new Object();
+
+        /**
+         * Queued apis, the scanning ends with the end marker or the failure
+         */
+        private final BlockingQueue<Object> items = new LinkedBlockingQueue<>();
+
+        /**
+         * Scanning task
+         */
+        private CompletableFuture<Void> future;
+
+        /**
+         * Take the next api, wait until it is parsed
+         *
+         * @return Api object or null if the scanning is completed
+         */
+        private Api take() {
+            Object item;
+            try {
+                item = this.items.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CompletionException(e);
+            }
+            if (item == END) {
+                return null;
+            } else if (item instanceof CompletionException) {
+                throw (CompletionException) item;
+            } else if (item instanceof Throwable) {
+                throw new CompletionException((Throwable) item);
+            }
+            return (Api) item;
+        }
+    }
+}
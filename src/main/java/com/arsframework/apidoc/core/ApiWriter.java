@@ -0,0 +1,483 @@
+package com.arsframework.apidoc.core;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+/**
+ * Streaming json writer of api, the apis are written as a json array with fixed schema directly to the target without
+ * intermediate tree, the field names of schema are encoded once and shared by all writers, the parameter field is
+ * skipped and the classes are written as class names. If the type definitions are specified, the apis are written as
+ * {"apis": [...], "definitions": {...}} and the parameter fields are replaced with the shared type definition
+ * references
+ *
+ * @author Woody
+ */
+public class ApiWriter implements Consumer<Api>, Flushable, Closeable {
+    /**
+     * Shared json factory, the generator buffers are recycled by the factory
+     */
+    private static final JsonFactory FACTORY = new JsonFactory();
+
+    /**
+     * Api and option key field name
+     */
+    private static final SerializableString KEY = new SerializedString("key");
+
+    /**
+     * Api and parameter name field name
+     */
+    private static final SerializableString NAME = new SerializedString("name");
+
+    /**
+     * Api tag field name
+     */
+    private static final SerializableString TAG = new SerializedString("tag");
+
+    /**
+     * Api uri field name
+     */
+    private static final SerializableString URI = new SerializedString("uri");
+
+    /**
+     * Api request mode field name
+     */
+    private static final SerializableString MODE = new SerializedString("mode");
+
+    /**
+     * Api date field name
+     */
+    private static final SerializableString DATE = new SerializedString("date");
+
+    /**
+     * Api version field name
+     */
+    private static final SerializableString VERSION = new SerializedString("version");
+
+    /**
+     * Api and parameter description field name
+     */
+    private static final SerializableString DESCRIPTION = new SerializedString("description");
+
+    /**
+     * Api, parameter and option deprecated field name
+     */
+    private static final SerializableString DEPRECATED = new SerializedString("deprecated");
+
+    /**
+     * Api authors field name
+     */
+    private static final SerializableString AUTHORS = new SerializedString("authors");
+
+    /**
+     * Api request methods field name
+     */
+    private static final SerializableString METHODS = new SerializedString("methods");
+
+    /**
+     * Api parameters field name
+     */
+    private static final SerializableString PARAMETERS = new SerializedString("parameters");
+
+    /**
+     * Api returned parameter field name
+     */
+    private static final SerializableString RETURNED = new SerializedString("returned");
+
+    /**
+     * Parameter input field name
+     */
+    private static final SerializableString INPUT = new SerializedString("input");
+
+    /**
+     * Parameter type field name
+     */
+    private static final SerializableString TYPE = new SerializedString("type");
+
+    /**
+     * Parameter original class field name
+     */
+    private static final SerializableString ORIGINAL = new SerializedString("original");
+
+    /**
+     * Parameter size field name
+     */
+    private static final SerializableString SIZE = new SerializedString("size");
+
+    /**
+     * Parameter size minimum field name
+     */
+    private static final SerializableString MIN = new SerializedString("min");
+
+    /**
+     * Parameter size maximum field name
+     */
+    private static final SerializableString MAX = new SerializedString("max");
+
+    /**
+     * Parameter entry field name
+     */
+    private static final SerializableString ENTRY = new SerializedString("entry");
+
+    /**
+     * Parameter format field name
+     */
+    private static final SerializableString FORMAT = new SerializedString("format");
+
+    /**
+     * Parameter example field name
+     */
+    private static final SerializableString EXAMPLE = new SerializedString("example");
+
+    /**
+     * Parameter required field name
+     */
+    private static final SerializableString REQUIRED = new SerializedString("required");
+
+    /**
+     * Parameter multiple field name
+     */
+    private static final SerializableString MULTIPLE = new SerializedString("multiple");
+
+    /**
+     * Parameter default value field name
+     */
+    private static final SerializableString DEFAULT_VALUE = new SerializedString("defaultValue");
+
+    /**
+     * Parameter options field name
+     */
+    private static final SerializableString OPTIONS = new SerializedString("options");
+
+    /**
+     * Parameter nested fields field name
+     */
+    private static final SerializableString FIELDS = new SerializedString("fields");
+
+    /**
+     * Option value field name
+     */
+    private static final SerializableString VALUE = new SerializedString("value");
+
+    /**
+     * Parameter type definition reference field name
+     */
+    private static final SerializableString REFERENCE = new SerializedString("reference");
+
+    /**
+     * Api and parameter truncated field name
+     */
+    private static final SerializableString TRUNCATED = new SerializedString("truncated");
+
+    /**
+     * Api array field name of the document with type definitions
+     */
+    private static final SerializableString APIS = new SerializedString("apis");
+
+    /**
+     * Type definitions field name
+     */
+    private static final SerializableString DEFINITIONS = new SerializedString("definitions");
+
+    /**
+     * Json generator
+     */
+    private final JsonGenerator generator;
+
+    /**
+     * Shared type definitions
+     */
+    private final TypeDefinitions definitions;
+
+    /**
+     * Whether the json array is started
+     */
+    private boolean started;
+
+    public ApiWriter(OutputStream output) throws IOException {
+        this(output, null);
+    }
+
+    public ApiWriter(WritableByteChannel channel) throws IOException {
+        this(channel, null);
+    }
+
+    public ApiWriter(OutputStream output, TypeDefinitions definitions) throws IOException {
+        Objects.requireNonNull(output, "output not specified");
+        this.generator = FACTORY.createGenerator(output, JsonEncoding.UTF8);
+        this.definitions = definitions;
+    }
+
+    public ApiWriter(WritableByteChannel channel, TypeDefinitions definitions) throws IOException {
+        this(Channels.newOutputStream(Objects.requireNonNull(channel, "channel not specified")), definitions);
+    }
+
+    /**
+     * Start apis array
+     *
+     * @throws IOException IO exception
+     */
+    private void start() throws IOException {
+        if (!this.started) {
+            if (this.definitions != null) {
+                this.generator.writeStartObject();
+                this.generator.writeFieldName(APIS);
+            }
+            this.generator.writeStartArray();
+            this.started = true;
+        }
+    }
+
+    /**
+     * Write api
+     *
+     * @param api Api object
+     * @throws IOException IO exception
+     */
+    public void write(Api api) throws IOException {
+        Objects.requireNonNull(api, "api not specified");
+        this.start();
+        if (this.definitions != null) {
+            api = this.definitions.reduce(api);
+        }
+        this.generator.writeStartObject();
+        this.writeString(KEY, api.getKey());
+        this.writeString(NAME, api.getName());
+        this.writeString(TAG, api.getTag());
+        this.writeString(URI, api.getUri());
+        this.writeString(MODE, api.getMode());
+        this.writeString(DATE, api.getDate());
+        this.writeString(VERSION, api.getVersion());
+        this.writeString(DESCRIPTION, api.getDescription());
+        this.generator.writeFieldName(DEPRECATED);
+        this.generator.writeBoolean(api.isDeprecated());
+        this.writeStrings(AUTHORS, api.getAuthors());
+        this.writeStrings(METHODS, api.getMethods());
+        this.writeParameters(PARAMETERS, api.getParameters());
+        this.generator.writeFieldName(RETURNED);
+        this.writeParameter(api.getReturned());
+        this.generator.writeFieldName(TRUNCATED);
+        this.generator.writeBoolean(api.isTruncated());
+        this.generator.writeEndObject();
+    }
+
+    /**
+     * Write parameter
+     *
+     * @param parameter Parameter object
+     * @throws IOException IO exception
+     */
+    protected void writeParameter(Parameter parameter) throws IOException {
+        if (parameter == null) {
+            this.generator.writeNull();
+            return;
+        }
+        this.generator.writeStartObject();
+        this.generator.writeFieldName(INPUT);
+        this.generator.writeBoolean(parameter.isInput());
+        this.writeString(TYPE, parameter.getType() == null ? null : parameter.getType().getName());
+        this.writeString(ORIGINAL, parameter.getOriginal() == null ? null : parameter.getOriginal().getName());
+        this.writeString(NAME, parameter.getName());
+        this.generator.writeFieldName(SIZE);
+        Parameter.Size size = parameter.getSize();
+        if (size == null) {
+            this.generator.writeNull();
+        } else {
+            this.generator.writeStartObject();
+            this.writeNumber(MIN, size.getMin());
+            this.writeNumber(MAX, size.getMax());
+            this.generator.writeEndObject();
+        }
+        this.writeString(ENTRY, parameter.getEntry());
+        this.writeString(FORMAT, parameter.getFormat());
+        this.writeString(EXAMPLE, parameter.getExample());
+        this.generator.writeFieldName(REQUIRED);
+        this.generator.writeBoolean(parameter.isRequired());
+        this.generator.writeFieldName(MULTIPLE);
+        this.generator.writeBoolean(parameter.isMultiple());
+        this.generator.writeFieldName(DEPRECATED);
+        this.generator.writeBoolean(parameter.isDeprecated());
+        this.generator.writeFieldName(DEFAULT_VALUE);
+        this.writeValue(parameter.getDefaultValue());
+        this.writeString(DESCRIPTION, parameter.getDescription());
+        this.generator.writeFieldName(OPTIONS);
+        List<Parameter.Option> options = parameter.getOptions();
+        if (options == null) {
+            this.generator.writeNull();
+        } else {
+            this.generator.writeStartArray();
+            for (int i = 0, count = options.size(); i < count; i++) {
+                Parameter.Option option = options.get(i);
+                this.generator.writeStartObject();
+                this.writeString(KEY, option.getKey());
+                this.writeString(VALUE, option.getValue());
+                this.generator.writeFieldName(DEPRECATED);
+                this.generator.writeBoolean(option.isDeprecated());
+                this.generator.writeEndObject();
+            }
+            this.generator.writeEndArray();
+        }
+        this.writeParameters(FIELDS, parameter.getFields());
+        this.writeString(REFERENCE, parameter.getReference());
+        this.generator.writeFieldName(TRUNCATED);
+        this.generator.writeBoolean(parameter.isTruncated());
+        this.generator.writeEndObject();
+    }
+
+    /**
+     * Write parameters field
+     *
+     * @param name       Field name
+     * @param parameters Parameter objects
+     * @throws IOException IO exception
+     */
+    private void writeParameters(SerializableString name, List<Parameter> parameters) throws IOException {
+        this.generator.writeFieldName(name);
+        if (parameters == null) {
+            this.generator.writeNull();
+            return;
+        }
+        this.generator.writeStartArray();
+        for (int i = 0, size = parameters.size(); i < size; i++) {
+            this.writeParameter(parameters.get(i));
+        }
+        this.generator.writeEndArray();
+    }
+
+    /**
+     * Write string field
+     *
+     * @param name  Field name
+     * @param value Field value
+     * @throws IOException IO exception
+     */
+    private void writeString(SerializableString name, String value) throws IOException {
+        this.generator.writeFieldName(name);
+        if (value == null) {
+            this.generator.writeNull();
+        } else {
+            this.generator.writeString(value);
+        }
+    }
+
+    /**
+     * Write strings field
+     *
+     * @param name   Field name
+     * @param values Field values
+     * @throws IOException IO exception
+     */
+    private void writeStrings(SerializableString name, List<String> values) throws IOException {
+        this.generator.writeFieldName(name);
+        if (values == null) {
+            this.generator.writeNull();
+            return;
+        }
+        this.generator.writeStartArray();
+        for (int i = 0, size = values.size(); i < size; i++) {
+            String value = values.get(i);
+            if (value == null) {
+                this.generator.writeNull();
+            } else {
+                this.generator.writeString(value);
+            }
+        }
+        this.generator.writeEndArray();
+    }
+
+    /**
+     * Write number field
+     *
+     * @param name  Field name
+     * @param value Field value
+     * @throws IOException IO exception
+     */
+    private void writeNumber(SerializableString name, Double value) throws IOException {
+        this.generator.writeFieldName(name);
+        if (value == null) {
+            this.generator.writeNull();
+        } else {
+            this.generator.writeNumber(value);
+        }
+    }
+
+    /**
+     * Write default value, the value which is not number, boolean or string is written as string
+     *
+     * @param value Default value
+     * @throws IOException IO exception
+     */
+    private void writeValue(Object value) throws IOException {
+        if (value == null) {
+            this.generator.writeNull();
+        } else if (value instanceof Boolean) {
+            this.generator.writeBoolean((Boolean) value);
+        } else if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            this.generator.writeNumber(((Number) value).intValue());
+        } else if (value instanceof Long) {
+            this.generator.writeNumber((Long) value);
+        } else if (value instanceof Float || value instanceof Double) {
+            this.generator.writeNumber(((Number) value).doubleValue());
+        } else if (value instanceof BigInteger) {
+            this.generator.writeNumber((BigInteger) value);
+        } else if (value instanceof BigDecimal) {
+            this.generator.writeNumber((BigDecimal) value);
+        } else if (value instanceof Date) {
+            this.generator.writeNumber(((Date) value).getTime());
+        } else if (value instanceof Enum) {
+            this.generator.writeString(((Enum<?>) value).name());
+        } else {
+            this.generator.writeString(value.toString());
+        }
+    }
+
+    @Override
+    public void accept(Api api) {
+        try {
+            this.write(api);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        this.generator.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (this.generator.isClosed()) {
+            return;
+        }
+        this.start();
+        this.generator.writeEndArray();
+        if (this.definitions != null) {
+            this.generator.writeFieldName(DEFINITIONS);
+            this.generator.writeStartObject();
+            for (Map.Entry<String, List<Parameter>> entry : this.definitions.getDefinitions().entrySet()) {
+                this.writeParameters(new SerializedString(entry.getKey()), entry.getValue());
+            }
+            this.generator.writeEndObject();
+            this.generator.writeEndObject();
+        }
+        this.generator.close();
+    }
+}
@@ -0,0 +1,143 @@
+package com.arsframework.apidoc.core;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Immutable comments of class and its fields, enum constants and methods which are extracted from source
+ *
+ * @author Woody
+ */
+public final class ClassComment {
+    /**
+     * Binary class name
+     */
+    private final String name;
+
+    /**
+     * Class comment
+     */
+    private final ParsedComment comment;
+
+    /**
+     * Field or enum constant name and comment mappings
+     */
+    private final Map<String, ParsedComment> fields;
+
+    /**
+     * Method signature and comment mappings
+     */
+    private final Map<String, ParsedComment> methods;
+
+    /**
+     * Method name and first method comment mappings
+     */
+    private final Map<String, ParsedComment> names;
+
+    public ClassComment(String name, ParsedComment comment, Map<String, ParsedComment> fields,
+                        Map<String, ParsedComment> methods, Map<String, ParsedComment> names) {
+        Objects.requireNonNull(name, "name not specified");
+        this.name = name;
+        this.comment = comment == null ? ParsedComment.EMPTY : comment;
+        this.fields = fields == null ? Collections.emptyMap() : Collections.unmodifiableMap(fields);
+        this.methods = methods == null ? Collections.emptyMap() : Collections.unmodifiableMap(methods);
+        this.names = names == null ? Collections.emptyMap() : Collections.unmodifiableMap(names);
+    }
+
+    /**
+     * Get source signature of method, the parameter types are erased simple names with array dimensions, such as
+     * "query(String,List,int[])"
+     *
+     * @param method Method object
+     * @return Method signature
+     */
+    public static String getSignature(Method method) {
+        Objects.requireNonNull(method, "method not specified");
+        StringBuilder signature = new StringBuilder(method.getName()).append('(');
+        Class<?>[] types = method.getParameterTypes();
+        for (int i = 0; i < types.length; i++) {
+            if (i > 0) {
+                signature.append(',');
+            }
+            Class<?> type = types[i];
+            int dimension = 0;
+            while (type.isArray()) {
+                type = type.getComponentType();
+                dimension++;
+            }
+            signature.append(type.getSimpleName());
+            while (dimension-- > 0) {
+                signature.append("[]");
+            }
+        }
+        return signature.append(')').toString();
+    }
+
+    /**
+     * Get binary class name
+     *
+     * @return Class name
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Get class comment
+     *
+     * @return Class comment
+     */
+    public ParsedComment getComment() {
+        return this.comment;
+    }
+
+    /**
+     * Get field or enum constant name and comment mappings
+     *
+     * @return Field name and comment mappings
+     */
+    public Map<String, ParsedComment> getFields() {
+        return this.fields;
+    }
+
+    /**
+     * Get method signature and comment mappings
+     *
+     * @return Method signature and comment mappings
+     */
+    public Map<String, ParsedComment> getMethods() {
+        return this.methods;
+    }
+
+    /**
+     * Get method name and first method comment mappings
+     *
+     * @return Method name and comment mappings
+     */
+    public Map<String, ParsedComment> getNames() {
+        return this.names;
+    }
+
+    /**
+     * Get field or enum constant comment
+     *
+     * @param name Field name
+     * @return Field comment
+     */
+    public ParsedComment getField(String name) {
+        return this.fields.getOrDefault(name, ParsedComment.EMPTY);
+    }
+
+    /**
+     * Get method comment, the first method with the same name is used if the signature is not matched
+     *
+     * @param method Method object
+     * @return Method comment
+     */
+    public ParsedComment getMethod(Method method) {
+        ParsedComment comment = this.methods.get(getSignature(method));
+        return comment == null ? this.names.getOrDefault(method.getName(), ParsedComment.EMPTY) : comment;
+    }
+}
@@ -1,30 +1,19 @@
 package com.arsframework.apidoc.core;
 
-import java.io.File;
-import java.io.InputStream;
-import java.io.OutputStream;
-import java.io.Reader;
-import java.io.Writer;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
-import java.math.BigDecimal;
-import java.math.BigInteger;
-import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.util.Collections;
-import java.util.Date;
 import java.util.HashMap;
-import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
-import java.util.TimeZone;
-
-import org.springframework.core.io.InputStreamSource;
-import org.springframework.web.multipart.MultipartFile;
 
 /**
  * Class helper
@@ -32,6 +21,52 @@ import org.springframework.web.multipart.MultipartFile;
  * @author Woody
  */
 public final class ClassHelper {
+    /**
+     * Class and instantiator mappings
+     */
+    private static final ClassValue<Instantiator> INSTANTIATORS = new ClassValue<Instantiator>() {
+        @Override
+        protected Instantiator computeValue(Class<?> type) {
+            return lookupInstantiator(type);
+        }
+    };
+
+    /**
+     * Class and field getter mappings
+     */
+    private static final ClassValue<Map<Field, MethodHandle>> FIELD_GETTERS =
+            new ClassValue<Map<Field, MethodHandle>>() {
+                @Override
+                protected Map<Field, MethodHandle> computeValue(Class<?> type) {
+                    Field[] fields = type.getDeclaredFields();
+                    Map<Field, MethodHandle> getters = new HashMap<>(fields.length * 2);
+                    MethodHandles.Lookup lookup = MethodHandles.lookup();
+                    for (Field field : fields) {
+                        if (Modifier.isStatic(field.getModifiers())) {
+                            continue;
+                        }
+                        try {
+                            field.setAccessible(true);
+                            getters.put(field, lookup.unreflectGetter(field)
+                                    .asType(MethodType.methodType(Object.class, Object.class)));
+                        } catch (IllegalAccessException | RuntimeException e) {
+                            // Use reflection for the field which can not be accessed by method handle
+                        }
+                    }
+                    return Collections.unmodifiableMap(getters);
+                }
+            };
+
+    /**
+     * Class and default values snapshot mappings, which are released with the class loader
+     */
+    private static final ClassValue<DefaultValues> DEFAULT_VALUES = new ClassValue<DefaultValues>() {
+        @Override
+        protected DefaultValues computeValue(Class<?> type) {
+            return new DefaultValues(type);
+        }
+    };
+
     private ClassHelper() {
     }
 
@@ -57,13 +92,7 @@ public final class ClassHelper {
      * @return true/false
      */
     public static boolean isBasicClass(Class<?> clazz) {
-        try {
-            return clazz != null && ((Class<?>) clazz.getField("TYPE").get(null)).isPrimitive();
-        } catch (NoSuchFieldException | IllegalAccessException e) {
-            return clazz.isPrimitive() || clazz == Byte.class || clazz == Character.class || clazz == Integer.class
-                    || clazz == Short.class || clazz == Long.class || clazz == Float.class || clazz == Double.class
-                    || clazz == Boolean.class;
-        }
+        return clazz != null && TypeCategory.of(clazz).isBasic();
     }
 
     /**
@@ -73,8 +102,7 @@ public final class ClassHelper {
      * @return true/false
      */
     public static boolean isDateClass(Class<?> clazz) {
-        return clazz != null && (Date.class.isAssignableFrom(clazz) || LocalDate.class.isAssignableFrom(clazz)
-                || LocalDateTime.class.isAssignableFrom(clazz));
+        return clazz != null && TypeCategory.of(clazz).isDate();
     }
 
     /**
@@ -84,9 +112,7 @@ public final class ClassHelper {
      * @return true/false
      */
     public static boolean isIntClass(Class<?> clazz) {
-        return clazz != null && (clazz == byte.class || clazz == Byte.class || clazz == short.class
-                || clazz == Short.class || clazz == int.class || clazz == Integer.class || clazz == long.class
-                || clazz == Long.class || BigInteger.class.isAssignableFrom(clazz));
+        return clazz != null && TypeCategory.of(clazz).isInt();
     }
 
     /**
@@ -96,8 +122,7 @@ public final class ClassHelper {
      * @return true/false
      */
     public static boolean isFloatClass(Class<?> clazz) {
-        return clazz != null && (clazz == float.class || clazz == Float.class || clazz == double.class
-                || clazz == Double.class || BigDecimal.class.isAssignableFrom(clazz));
+        return clazz != null && TypeCategory.of(clazz).isFloat();
     }
 
     /**
@@ -107,10 +132,7 @@ public final class ClassHelper {
      * @return true/false
      */
     public static boolean isStreamClass(Class<?> clazz) {
-        return clazz != null && (File.class.isAssignableFrom(clazz) || MultipartFile.class.isAssignableFrom(clazz)
-                || Reader.class.isAssignableFrom(clazz) || InputStream.class.isAssignableFrom(clazz)
-                || InputStreamSource.class.isAssignableFrom(clazz) || Writer.class.isAssignableFrom(clazz)
-                || OutputStream.class.isAssignableFrom(clazz));
+        return clazz != null && TypeCategory.of(clazz).isStream();
     }
 
     /**
@@ -120,13 +142,7 @@ public final class ClassHelper {
      * @return true/false
      */
     public static boolean isMetaClass(Class<?> clazz) {
-        return isBasicClass(clazz) || clazz == Object.class || Map.class.isAssignableFrom(clazz)
-                || Enum.class.isAssignableFrom(clazz) || Number.class.isAssignableFrom(clazz)
-                || clazz == Locale.class || TimeZone.class.isAssignableFrom(clazz)
-                || CharSequence.class.isAssignableFrom(clazz) || isDateClass(clazz) || File.class.isAssignableFrom(clazz)
-                || MultipartFile.class.isAssignableFrom(clazz) || InputStream.class.isAssignableFrom(clazz)
-                || InputStreamSource.class.isAssignableFrom(clazz) || Reader.class.isAssignableFrom(clazz)
-                || OutputStream.class.isAssignableFrom(clazz) || Writer.class.isAssignableFrom(clazz);
+        return clazz != null && TypeCategory.of(clazz).isMeta();
     }
 
     /**
@@ -146,7 +162,7 @@ public final class ClassHelper {
                     return method;
                 }
             }
-        } while ((clazz = clazz.getSuperclass()) != Object.class);
+        } while ((clazz = clazz.getSuperclass()) != null && clazz != Object.class);
         return null;
     }
 
@@ -192,39 +208,278 @@ public final class ClassHelper {
     }
 
     /**
-     * Get class instance
+     * Lookup instantiator of class
      *
      * @param clazz Target class
-     * @return Class instance
+     * @return Class instantiator
      */
-    public static Object getInstance(Class<?> clazz) {
-        if (clazz == null || Modifier.isAbstract(clazz.getModifiers()) || Modifier.isInterface(clazz.getModifiers())) {
-            return null;
+    private static Instantiator lookupInstantiator(Class<?> clazz) {
+        if (Modifier.isAbstract(clazz.getModifiers()) || Modifier.isInterface(clazz.getModifiers())) {
+            return Instantiator.NONE;
         }
-
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        MethodType type = MethodType.methodType(Object.class);
         try {
             // Build instance by constructor
             for (Constructor<?> constructor : clazz.getConstructors()) {
                 if (constructor.getParameterCount() == 0) {
                     constructor.setAccessible(true);
-                    return constructor.newInstance();
+                    return new Instantiator(InstantiationStrategy.CONSTRUCTOR,
+                            lookup.unreflectConstructor(constructor).asType(type), null);
                 }
             }
 
             // Build instance by lombok
-            Method method = lookupMethod(clazz, "builder");
-            if (method != null) {
-                Object builder = method.invoke(clazz);
-                if (builder != null && (method = lookupMethod(builder.getClass(), "build")) != null) {
-                    Object instance = method.invoke(builder);
-                    if (instance != null && clazz.isAssignableFrom(instance.getClass())) {
-                        return instance;
-                    }
-                }
+            Method builder = lookupMethod(clazz, "builder");
+            Method build = builder == null || !Modifier.isStatic(builder.getModifiers())
+                    || builder.getReturnType().isPrimitive() ? null : lookupMethod(builder.getReturnType(), "build");
+            if (build != null) {
+                MethodHandle handle = MethodHandles.filterReturnValue(lookup.unreflect(builder),
+                        lookup.unreflect(build).asType(MethodType.methodType(Object.class, builder.getReturnType())));
+                return new Instantiator(InstantiationStrategy.BUILDER, handle.asType(type), null);
             }
         } catch (ReflectiveOperationException e) {
+            return new Instantiator(InstantiationStrategy.NONE, null, new RuntimeException(e));
+        }
+        return Instantiator.NONE;
+    }
+
+    /**
+     * Get instantiation strategy of class
+     *
+     * @param clazz Target class
+     * @return Instantiation strategy
+     */
+    public static InstantiationStrategy getInstantiationStrategy(Class<?> clazz) {
+        Objects.requireNonNull(clazz, "clazz not specified");
+        return INSTANTIATORS.get(clazz).strategy;
+    }
+
+    /**
+     * Get class instance
+     *
+     * @param clazz Target class
+     * @return Class instance
+     */
+    public static Object getInstance(Class<?> clazz) {
+        if (clazz == null) {
+            return null;
+        }
+        Instantiator instantiator = INSTANTIATORS.get(clazz);
+        if (instantiator.failure != null) {
+            throw instantiator.failure;
+        } else if (instantiator.handle == null) {
+            return null;
+        }
+        Object instance;
+        Object event = AnalysisEvents.beginInstantiation(clazz);
+        try {
+            instance = instantiator.handle.invokeExact();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
             throw new RuntimeException(e);
         }
-        return null;
+        instance = instance != null && clazz.isAssignableFrom(instance.getClass()) ? instance : null;
+        AnalysisEvents.commitInstantiation(event, instance != null);
+        return instance;
+    }
+
+    /**
+     * Get field value with method handle
+     *
+     * @param instance Class instance
+     * @param field    Field object
+     * @return Field value
+     */
+    public static Object getFieldValue(Object instance, Field field) {
+        Objects.requireNonNull(field, "field not specified");
+        MethodHandle getter = Modifier.isStatic(field.getModifiers()) ? null :
+                FIELD_GETTERS.get(field.getDeclaringClass()).get(field);
+        try {
+            if (getter == null) {
+                field.setAccessible(true);
+                return field.get(instance);
+            }
+            return getter.invokeExact(Objects.requireNonNull(instance, "instance not specified"));
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Get shared default instance of class, the instance must not be modified. The instantiation failure is cached
+     * with the snapshot and thrown on every call, as {@link #getInstance(Class)} does
+     *
+     * @param clazz Target class
+     * @return Class instance or null if the class has no instantiation strategy
+     */
+    public static Object getDefaultInstance(Class<?> clazz) {
+        if (clazz == null) {
+            return null;
+        }
+        DefaultValues defaults = DEFAULT_VALUES.get(clazz);
+        if (defaults.failure != null) {
+            throw defaults.failure;
+        }
+        return defaults.instance;
+    }
+
+    /**
+     * Get default field values of class, the instantiation failure is thrown as {@link #getDefaultInstance(Class)}
+     * does
+     *
+     * @param clazz Target class
+     * @return Field and default value mappings
+     */
+    public static Map<Field, Object> getDefaultValues(Class<?> clazz) {
+        Objects.requireNonNull(clazz, "clazz not specified");
+        DefaultValues defaults = DEFAULT_VALUES.get(clazz);
+        if (defaults.failure != null) {
+            throw defaults.failure;
+        }
+        return defaults.values;
+    }
+
+    /**
+     * Get the failure of class instantiation
+     *
+     * @param clazz Target class
+     * @return Instantiation failure or null if instantiated successfully
+     */
+    public static RuntimeException getInstantiationFailure(Class<?> clazz) {
+        Objects.requireNonNull(clazz, "clazz not specified");
+        return DEFAULT_VALUES.get(clazz).failure;
+    }
+
+    /**
+     * Get default value of field which is not null or empty
+     *
+     * @param instance Class instance
+     * @param field    Field object
+     * @return Default value
+     */
+    public static Object getDefaultValue(Object instance, Field field) {
+        Objects.requireNonNull(field, "field not specified");
+        if (instance == null) {
+            return null;
+        }
+        DefaultValues defaults = DEFAULT_VALUES.get(instance.getClass());
+        if (defaults.instance == instance) {
+            return defaults.values.get(field);
+        }
+        return getActiveValue(getFieldValue(instance, field));
+    }
+
+    /**
+     * Get active value which is not null or empty
+     *
+     * @param value Value object
+     * @return Value object
+     */
+    private static Object getActiveValue(Object value) {
+        return value == null || value instanceof CharSequence && ((CharSequence) value).length() == 0 ? null : value;
+    }
+
+    /**
+     * Immutable default values snapshot of class
+     */
+    private static final class DefaultValues {
+        /**
+         * Shared class instance
+         */
+        private final Object instance;
+
+        /**
+         * Field and default value mappings
+         */
+        private final Map<Field, Object> values;
+
+        /**
+         * Instantiation failure
+         */
+        private final RuntimeException failure;
+
+        private DefaultValues(Class<?> clazz) {
+            Object instance = null;
+            RuntimeException failure = null;
+            Map<Field, Object> values = Collections.emptyMap();
+            try {
+                instance = getInstance(clazz);
+                if (instance != null) {
+                    values = new HashMap<>();
+                    for (Class<?> c = clazz; c != null && c != Object.class; c = c.getSuperclass()) {
+                        for (Field field : c.getDeclaredFields()) {
+                            Object value;
+                            if (!Modifier.isStatic(field.getModifiers()) && !field.isSynthetic()
+                                    && (value = getActiveValue(getFieldValue(instance, field))) != null) {
+                                values.put(field, value);
+                            }
+                        }
+                    }
+                    values = Collections.unmodifiableMap(values);
+                }
+            } catch (RuntimeException | LinkageError e) {
+                instance = null;
+                values = Collections.emptyMap();
+                failure = e instanceof RuntimeException ? (RuntimeException) e : new RuntimeException(e);
+            }
+            this.instance = instance;
+            this.values = values;
+            this.failure = failure;
+        }
+    }
+
+    /**
+     * Class instantiation strategy
+     */
+    public enum InstantiationStrategy {
+        /**
+         * Public constructor without parameters
+         */
+        CONSTRUCTOR,
+
+        /**
+         * Lombok builder
+         */
+        BUILDER,
+
+        /**
+         * Not instantiable
+         */
+        NONE
+    }
+
+    /**
+     * Resolved class instantiator
+     */
+    private static final class Instantiator {
+        /**
+         * Not instantiable instantiator
+         */
+        private static final Instantiator NONE = new Instantiator(InstantiationStrategy.NONE, null, null);
+
+        /**
+         * Instantiation strategy
+         */
+        private final InstantiationStrategy strategy;
+
+        /**
+         * Instantiation method handle
+         */
+        private final MethodHandle handle;
+
+        /**
+         * Resolution failure
+         */
+        private final RuntimeException failure;
+
+        private Instantiator(InstantiationStrategy strategy, MethodHandle handle, RuntimeException failure) {
+            this.strategy = strategy;
+            this.handle = handle;
+            this.failure = failure;
+        }
     }
 }
@@ -0,0 +1,366 @@
+package com.arsframework.apidoc.core;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Source comment index which extracts the class comments from java sources by {@link SourceCommentExtractor} without
+ * javadoc, the source files are loaded in parallel by {@link #load()} or lazily on the first lookup of class. If the
+ * index file is specified, the comments are persisted by source path and content hash, the unchanged sources are
+ * neither read nor parsed again, the sources with changed size or modified time are hashed and parsed only if the
+ * content hash is changed
+ *
+ * @author Woody
+ */
+public class CommentIndex {
+    /**
+     * Java source file suffix
+     */
+    private static final String SOURCE_SUFFIX = ".java";
+
+    /**
+     * Source content hash algorithm
+     */
+    private static final String HASH_ALGORITHM = "SHA-1";
+
+    /**
+     * Source roots
+     */
+    private final List<Path> roots;
+
+    /**
+     * Source charset
+     */
+    private final Charset charset;
+
+    /**
+     * Persistent index file
+     */
+    private final File file;
+
+    /**
+     * Source path and indexed entry mappings
+     */
+    private final Map<Path, CommentIndexStore.Entry> sources = new ConcurrentHashMap<>();
+
+    /**
+     * Persisted source path and indexed entry mappings which are not checked yet
+     */
+    private volatile Map<Path, CommentIndexStore.Entry> persisted;
+
+    /**
+     * Whether the indexed entries are changed since the index file is read
+     */
+    private volatile boolean changed;
+
+    /**
+     * Binary class name and comment mappings
+     */
+    private final Map<String, ClassComment> classes = new ConcurrentHashMap<>();
+
+    /**
+     * Binary names of the classes whose comments are not found, the source lookup is not repeated for them
+     */
+    private final Set<String> missing = ConcurrentHashMap.newKeySet();
+
+    public CommentIndex(File... roots) {
+        this(null, StandardCharsets.UTF_8, roots);
+    }
+
+    public CommentIndex(Charset charset, File... roots) {
+        this(null, charset, roots);
+    }
+
+    public CommentIndex(File file, Charset charset, File... roots) {
+        Objects.requireNonNull(charset, "charset not specified");
+        Objects.requireNonNull(roots, "roots not specified");
+        List<Path> paths = new ArrayList<>(roots.length);
+        for (File root : roots) {
+            paths.add(Objects.requireNonNull(root, "root not specified").toPath().toAbsolutePath().normalize());
+        }
+        this.roots = Collections.unmodifiableList(paths);
+        this.charset = charset;
+        this.file = file;
+    }
+
+    /**
+     * Get source roots
+     *
+     * @return Source roots
+     */
+    public List<Path> getRoots() {
+        return this.roots;
+    }
+
+    /**
+     * Get source charset
+     *
+     * @return Source charset
+     */
+    public Charset getCharset() {
+        return this.charset;
+    }
+
+    /**
+     * Get persistent index file
+     *
+     * @return Index file or null if the index is not persisted
+     */
+    public File getFile() {
+        return this.file;
+    }
+
+    /**
+     * Parse class comments of source content
+     *
+     * @param source Source content
+     * @return Binary class name and comment mappings
+     */
+    protected Map<String, ClassComment> parse(CharSequence source) {
+        return SourceCommentExtractor.extract(source);
+    }
+
+    /**
+     * Get content hash of source file
+     *
+     * @param buffer Source content buffer
+     * @return Content hash
+     */
+    private static byte[] hash(MappedByteBuffer buffer) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance(HASH_ALGORITHM);
+            digest.update(buffer);
+            buffer.rewind();
+            return digest.digest();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Read persisted entries from index file once
+     *
+     * @return Persisted source path and entry mappings
+     */
+    private Map<Path, CommentIndexStore.Entry> getPersisted() {
+        Map<Path, CommentIndexStore.Entry> persisted = this.persisted;
+        if (persisted == null) {
+            synchronized (this) {
+                if ((persisted = this.persisted) == null) {
+                    try {
+                        persisted = this.file == null ? Collections.emptyMap()
+                                : CommentIndexStore.read(this.file, this.charset.name());
+                    } catch (IOException e) {
+                        // The broken index file is rebuilt
+                        persisted = Collections.emptyMap();
+                    }
+                    this.persisted = persisted = new ConcurrentHashMap<>(persisted);
+                }
+            }
+        }
+        return persisted;
+    }
+
+    /**
+     * Index source file, the persisted entry is reused if the source is not changed
+     *
+     * @param path Source path
+     * @return Indexed entry
+     * @throws IOException IO exception
+     */
+    private CommentIndexStore.Entry index(Path path) throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        long size = attributes.size(), modified = attributes.lastModifiedTime().toMillis();
+        CommentIndexStore.Entry entry = this.getPersisted().remove(path);
+        if (entry != null && entry.size == size && entry.modified == modified) {
+            return entry;
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            byte[] hash = this.file == null ? new byte[0] : hash(buffer);
+            this.changed = true;
+            if (entry != null && Arrays.equals(entry.hash, hash)) {
+                return new CommentIndexStore.Entry(size, modified, hash, entry.comments);
+            }
+            return new CommentIndexStore.Entry(size, modified, hash, this.parse(this.charset.decode(buffer)));
+        }
+    }
+
+    /**
+     * Index source file and register the class comments
+     *
+     * @param path Source path
+     */
+    private void register(Path path) {
+        CommentIndexStore.Entry entry = this.sources.computeIfAbsent(path, p -> {
+            try {
+                return this.index(p);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        this.classes.putAll(entry.comments);
+    }
+
+    /**
+     * Load all source files of source roots in parallel, the index file is updated if any source is changed
+     *
+     * @return Comment index
+     * @throws IOException IO exception
+     */
+    public CommentIndex load() throws IOException {
+        List<Path> paths = new ArrayList<>();
+        for (Path root : this.roots) {
+            if (Files.isDirectory(root)) {
+                try (Stream<Path> stream = Files.walk(root)) {
+                    paths.addAll(stream.filter(path -> path.toString().endsWith(SOURCE_SUFFIX)
+                            && Files.isRegularFile(path)).collect(Collectors.toList()));
+                }
+            }
+        }
+        try {
+            paths.parallelStream().forEach(this::register);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        this.missing.clear();
+        Set<Path> removed = this.getPersisted().keySet();
+        if (!removed.isEmpty()) {
+            removed.clear();
+            this.changed = true;
+        }
+        this.save();
+        return this;
+    }
+
+    /**
+     * Save indexed entries to index file if the entries are changed, the persisted entries of sources which are not
+     * indexed yet are kept
+     *
+     * @throws IOException IO exception
+     */
+    public synchronized void save() throws IOException {
+        if (this.file == null || !this.changed) {
+            return;
+        }
+        Map<Path, CommentIndexStore.Entry> entries = new HashMap<>(this.getPersisted());
+        entries.putAll(this.sources);
+        CommentIndexStore.write(this.file, this.charset.name(), entries);
+        this.changed = false;
+    }
+
+    /**
+     * Get top level class of class
+     *
+     * @param clazz Class object
+     * @return Top level class object
+     */
+    private static Class<?> getTopLevelClass(Class<?> clazz) {
+        while (clazz.getEnclosingClass() != null) {
+            clazz = clazz.getEnclosingClass();
+        }
+        return clazz;
+    }
+
+    /**
+     * Get class comment, the source file of top level class is located and indexed if the class is not indexed, the
+     * classes whose comments are not found are recorded until the sources are loaded again
+     *
+     * @param clazz Class object
+     * @return Class comment or null if the source is not found
+     */
+    public ClassComment getClassComment(Class<?> clazz) {
+        if (clazz == null || clazz.isArray() || clazz.isPrimitive()) {
+            return null;
+        }
+        ClassComment comment = this.classes.get(clazz.getName());
+        if (comment == null && !this.missing.contains(clazz.getName())) {
+            String file = getTopLevelClass(clazz).getName().replace('.', File.separatorChar) + SOURCE_SUFFIX;
+            for (Path root : this.roots) {
+                Path path = root.resolve(file);
+                if (!this.sources.containsKey(path) && Files.isRegularFile(path)) {
+                    try {
+                        this.register(path);
+                    } catch (UncheckedIOException e) {
+                        return null;
+                    }
+                    if ((comment = this.classes.get(clazz.getName())) != null) {
+                        break;
+                    }
+                }
+            }
+            if (comment == null) {
+                this.missing.add(clazz.getName());
+            }
+        }
+        return comment;
+    }
+
+    /**
+     * Get class comment
+     *
+     * @param clazz Class object
+     * @return Parsed comment
+     */
+    public ParsedComment getComment(Class<?> clazz) {
+        ClassComment comment = this.getClassComment(clazz);
+        return comment == null ? ParsedComment.EMPTY : comment.getComment();
+    }
+
+    /**
+     * Get field comment
+     *
+     * @param field Field object
+     * @return Parsed comment
+     */
+    public ParsedComment getComment(Field field) {
+        Objects.requireNonNull(field, "field not specified");
+        ClassComment comment = this.getClassComment(field.getDeclaringClass());
+        return comment == null ? ParsedComment.EMPTY : comment.getField(field.getName());
+    }
+
+    /**
+     * Get method comment
+     *
+     * @param method Method object
+     * @return Parsed comment
+     */
+    public ParsedComment getComment(Method method) {
+        Objects.requireNonNull(method, "method not specified");
+        ClassComment comment = this.getClassComment(method.getDeclaringClass());
+        return comment == null ? ParsedComment.EMPTY : comment.getMethod(method);
+    }
+
+    /**
+     * Get indexed class size
+     *
+     * @return Class size
+     */
+    public int size() {
+        return this.classes.size();
+    }
+}
@@ -0,0 +1,407 @@
+package com.arsframework.apidoc.core;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Persistent store of comment index, the class comments are stored by source path with the source size, last
+ * modified time and content hash, the file layout is:
+ * <pre>
+ * header:  magic(int) version(int) charset(string) sources(int)
+ * sources: path(string) size(long) modified(long) hash(bytes) classes(int) class comments
+ * class:   name(string) comment fields(int) [name comment] methods(int) [signature comment]
+ *          names(int) [name kind(byte) signature or comment]
+ * comment: text(string) lines(strings) tags(int) [name values(strings)] parameters(int) [name note]
+ * </pre>
+ * Strings are written as utf-8 byte length (-1 for null) and bytes. The lengths and counts are validated against the
+ * remaining bytes when the file is read, so a broken file fails with {@link IOException}
+ *
+ * @author Woody
+ */
+final class CommentIndexStore {
+    /**
+     * Index file magic
+     */
+    static final int MAGIC = 0x41434958;
+
+    /**
+     * Index file version
+     */
+    static final int VERSION = 1;
+
+    /**
+     * Method name refers to method signature
+     */
+    private static final int NAME_SIGNATURE = 0;
+
+    /**
+     * Method name has its own comment
+     */
+    private static final int NAME_COMMENT = 1;
+
+    private CommentIndexStore() {
+    }
+
+    /**
+     * Read source entries from index file
+     *
+     * @param file    Index file
+     * @param charset Source charset name, the entries are discarded if the charset is changed
+     * @return Source path and entry mappings, empty if the file does not exist or is not compatible
+     * @throws IOException IO exception
+     */
+    static Map<Path, Entry> read(File file, String charset) throws IOException {
+        if (!file.isFile()) {
+            return new HashMap<>();
+        }
+        try (DataInputStream input = new DataInputStream(new ByteArrayInputStream(Files.readAllBytes(file.toPath())))) {
+            if (input.readInt() != MAGIC || input.readInt() != VERSION || !charset.equals(readString(input))) {
+                return new HashMap<>();
+            }
+            int size = readSize(input, Integer.BYTES);
+            Map<Path, Entry> entries = new HashMap<>(size * 2);
+            for (int i = 0; i < size; i++) {
+                Path path = Paths.get(readRequiredString(input));
+                long length = input.readLong(), modified = input.readLong();
+                byte[] hash = new byte[readSize(input, 1)];
+                input.readFully(hash);
+                int count = readSize(input, Integer.BYTES);
+                Map<String, ClassComment> comments = new HashMap<>(count * 2);
+                for (int c = 0; c < count; c++) {
+                    ClassComment comment = readClassComment(input);
+                    comments.put(comment.getName(), comment);
+                }
+                entries.put(path, new Entry(length, modified, hash, comments));
+            }
+            return entries;
+        } catch (RuntimeException e) {
+            throw new IOException("Invalid index file: " + file, e);
+        }
+    }
+
+    /**
+     * Read length or count which must not be negative and must fit in the remaining bytes of input
+     *
+     * @param input Data input
+     * @param unit  Minimum byte size of each element
+     * @return Length or count
+     * @throws IOException IO exception
+     */
+    private static int readSize(DataInputStream input, int unit) throws IOException {
+        int size = input.readInt();
+        if (size < 0 || size > input.available() / unit) {
+            throw new IOException("Invalid index size: " + size);
+        }
+        return size;
+    }
+
+    /**
+     * Write source entries to index file, the entries are written to a temporary file which replaces the index file
+     * at last
+     *
+     * @param file    Index file
+     * @param charset Source charset name
+     * @param entries Source path and entry mappings
+     * @throws IOException IO exception
+     */
+    static void write(File file, String charset, Map<Path, Entry> entries) throws IOException {
+        File parent = file.getAbsoluteFile().getParentFile();
+        if (parent != null && !parent.exists()) {
+            parent.mkdirs();
+        }
+        Path temporary = Files.createTempFile(parent == null ? null : parent.toPath(), file.getName(), ".tmp");
+        try {
+            try (DataOutputStream output = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+                output.writeInt(MAGIC);
+                output.writeInt(VERSION);
+                writeString(output, charset);
+                output.writeInt(entries.size());
+                for (Map.Entry<Path, Entry> entry : entries.entrySet()) {
+                    Entry source = entry.getValue();
+                    writeString(output, entry.getKey().toString());
+                    output.writeLong(source.size);
+                    output.writeLong(source.modified);
+                    output.writeInt(source.hash.length);
+                    output.write(source.hash);
+                    output.writeInt(source.comments.size());
+                    for (ClassComment comment : source.comments.values()) {
+                        writeClassComment(output, comment);
+                    }
+                }
+            }
+            Files.move(temporary, file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    /**
+     * Read class comment
+     *
+     * @param input Data input
+     * @return Class comment
+     * @throws IOException IO exception
+     */
+    private static ClassComment readClassComment(DataInputStream input) throws IOException {
+        String name = readRequiredString(input);
+        ParsedComment comment = readComment(input);
+        Map<String, ParsedComment> fields = readComments(input);
+        Map<String, ParsedComment> methods = readComments(input);
+        int size = readSize(input, Integer.BYTES);
+        Map<String, ParsedComment> names = new HashMap<>(size * 2);
+        for (int i = 0; i < size; i++) {
+            String key = readString(input);
+            int kind = input.readByte();
+            if (kind == NAME_SIGNATURE) {
+                String signature = readString(input);
+                ParsedComment target = methods.get(signature);
+                if (target == null) {
+                    throw new IOException("Invalid method signature: " + signature);
+                }
+                names.put(key, target);
+            } else if (kind == NAME_COMMENT) {
+                names.put(key, readComment(input));
+            } else {
+                throw new IOException("Invalid name kind: " + kind);
+            }
+        }
+        return new ClassComment(name, comment, fields, methods, names);
+    }
+
+    /**
+     * Write class comment
+     *
+     * @param output  Data output
+     * @param comment Class comment
+     * @throws IOException IO exception
+     */
+    private static void writeClassComment(DataOutputStream output, ClassComment comment) throws IOException {
+        writeString(output, comment.getName());
+        writeComment(output, comment.getComment());
+        writeComments(output, comment.getFields());
+        writeComments(output, comment.getMethods());
+        Map<ParsedComment, String> signatures = new IdentityHashMap<>(comment.getMethods().size() * 2);
+        comment.getMethods().forEach((signature, value) -> signatures.putIfAbsent(value, signature));
+        output.writeInt(comment.getNames().size());
+        for (Map.Entry<String, ParsedComment> entry : comment.getNames().entrySet()) {
+            writeString(output, entry.getKey());
+            String signature = signatures.get(entry.getValue());
+            if (signature == null) {
+                output.writeByte(NAME_COMMENT);
+                writeComment(output, entry.getValue());
+            } else {
+                output.writeByte(NAME_SIGNATURE);
+                writeString(output, signature);
+            }
+        }
+    }
+
+    /**
+     * Read key and comment mappings
+     *
+     * @param input Data input
+     * @return Key and comment mappings
+     * @throws IOException IO exception
+     */
+    private static Map<String, ParsedComment> readComments(DataInputStream input) throws IOException {
+        int size = readSize(input, Integer.BYTES);
+        Map<String, ParsedComment> comments = new HashMap<>(size * 2);
+        for (int i = 0; i < size; i++) {
+            comments.put(readString(input), readComment(input));
+        }
+        return comments;
+    }
+
+    /**
+     * Write key and comment mappings
+     *
+     * @param output   Data output
+     * @param comments Key and comment mappings
+     * @throws IOException IO exception
+     */
+    private static void writeComments(DataOutputStream output, Map<String, ParsedComment> comments)
+            throws IOException {
+        output.writeInt(comments.size());
+        for (Map.Entry<String, ParsedComment> entry : comments.entrySet()) {
+            writeString(output, entry.getKey());
+            writeComment(output, entry.getValue());
+        }
+    }
+
+    /**
+     * Read parsed comment
+     *
+     * @param input Data input
+     * @return Parsed comment
+     * @throws IOException IO exception
+     */
+    private static ParsedComment readComment(DataInputStream input) throws IOException {
+        String text = readString(input);
+        List<String> lines = readStrings(input);
+        int size = readSize(input, Integer.BYTES);
+        Map<String, List<String>> tags = size == 0 ? Collections.emptyMap() : new HashMap<>(size * 2);
+        for (int i = 0; i < size; i++) {
+            tags.put(readString(input), readStrings(input));
+        }
+        size = readSize(input, Integer.BYTES);
+        Map<String, String> parameters = size == 0 ? Collections.emptyMap() : new HashMap<>(size * 2);
+        for (int i = 0; i < size; i++) {
+            parameters.put(readString(input), readString(input));
+        }
+        return ParsedComment.of(text, lines, tags, parameters);
+    }
+
+    /**
+     * Write parsed comment
+     *
+     * @param output  Data output
+     * @param comment Parsed comment
+     * @throws IOException IO exception
+     */
+    private static void writeComment(DataOutputStream output, ParsedComment comment) throws IOException {
+        writeString(output, comment.getText());
+        writeStrings(output, comment.getLines());
+        output.writeInt(comment.getTags().size());
+        for (Map.Entry<String, List<String>> entry : comment.getTags().entrySet()) {
+            writeString(output, entry.getKey());
+            writeStrings(output, entry.getValue());
+        }
+        output.writeInt(comment.getParameters().size());
+        for (Map.Entry<String, String> entry : comment.getParameters().entrySet()) {
+            writeString(output, entry.getKey());
+            writeString(output, entry.getValue());
+        }
+    }
+
+    /**
+     * Read strings
+     *
+     * @param input Data input
+     * @return String values
+     * @throws IOException IO exception
+     */
+    private static List<String> readStrings(DataInputStream input) throws IOException {
+        int size = readSize(input, Integer.BYTES);
+        if (size == 0) {
+            return Collections.emptyList();
+        }
+        List<String> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            values.add(readString(input));
+        }
+        return values;
+    }
+
+    /**
+     * Write strings
+     *
+     * @param output Data output
+     * @param values String values
+     * @throws IOException IO exception
+     */
+    private static void writeStrings(DataOutputStream output, List<String> values) throws IOException {
+        output.writeInt(values.size());
+        for (String value : values) {
+            writeString(output, value);
+        }
+    }
+
+    /**
+     * Read string
+     *
+     * @param input Data input
+     * @return String value
+     * @throws IOException IO exception
+     */
+    private static String readString(DataInputStream input) throws IOException {
+        int length = input.readInt();
+        if (length == -1) {
+            return null;
+        } else if (length < 0 || length > input.available()) {
+            throw new IOException("Invalid string length: " + length);
+        }
+        byte[] bytes = new byte[length];
+        input.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Read string which must not be null
+     *
+     * @param input Data input
+     * @return String value
+     * @throws IOException IO exception
+     */
+    private static String readRequiredString(DataInputStream input) throws IOException {
+        String value = readString(input);
+        if (value == null) {
+            throw new IOException("Missing string value");
+        }
+        return value;
+    }
+
+    /**
+     * Write string
+     *
+     * @param output Data output
+     * @param value  String value
+     * @throws IOException IO exception
+     */
+    private static void writeString(DataOutputStream output, String value) throws IOException {
+        if (value == null) {
+            output.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    /**
+     * Indexed source entry
+     */
+    static final class Entry {
+        /**
+         * Source file size
+         */
+        final long size;
+
+        /**
+         * Source last modified time in milliseconds
+         */
+        final long modified;
+
+        /**
+         * Source content hash
+         */
+        final byte[] hash;
+
+        /**
+         * Binary class name and comment mappings
+         */
+        final Map<String, ClassComment> comments;
+
+        Entry(long size, long modified, byte[] hash, Map<String, ClassComment> comments) {
+            this.size = size;
+            this.modified = modified;
+            this.hash = hash;
+            this.comments = comments;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.arsframework.apidoc.core;
 
 import lombok.Builder;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 
 /**
@@ -10,6 +11,7 @@ import lombok.Getter;
  */
 @Getter
 @Builder
+@EqualsAndHashCode
 public class Configuration {
     /**
      * Whether the date is displayed
@@ -35,4 +37,32 @@ public class Configuration {
      * Whether the snake and underline conversion is enabled
      */
     private boolean enableSnakeUnderlineConversion;
+
+    /**
+     * Maximum times of class which is expanded again inside itself
+     */
+    @Builder.Default
+    private int maxRecursionRepeat = 1;
+
+    /**
+     * Maximum depth of parameter fields expansion, non-positive for unlimited
+     */
+    private int maxDepth;
+
+    /**
+     * Maximum parameter nodes of api after which the fields are no longer expanded, non-positive for unlimited
+     */
+    private int maxNodes;
+
+    /**
+     * Maximum analysis time in milliseconds of api after which the fields are no longer expanded, non-positive for
+     * unlimited
+     */
+    private long maxMillis;
+
+    /**
+     * Whether the fields of nested parameters are expanded lazily on the first access, the limits of a lazy expansion
+     * are checked at access time with its own node and time budget, so the api is not marked as truncated by them
+     */
+    private boolean lazyExpansion;
 }
@@ -1,44 +1,59 @@
 package com.arsframework.apidoc.core;
 
-import java.util.Collections;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
 
-import com.sun.javadoc.ClassDoc;
-
 /**
- * Context helper
+ * Context helper which binds the analysis context to current thread
  *
  * @author Woody
  */
 public final class ContextHelper {
     /**
-     * Class path
+     * Analysis context
      */
-    private static final ThreadLocal<String> CLASSPATH = new ThreadLocal<>();
+    private static final ThreadLocal<AnalysisContext> CONTEXT = new ThreadLocal<>();
+
+    private ContextHelper() {
+    }
 
     /**
-     * Class loader
+     * Get analysis context of current thread
+     *
+     * @return Analysis context
      */
-    private static final ThreadLocal<ClassLoader> CLASS_LOADER = new ThreadLocal<>();
+    public static AnalysisContext getContext() {
+        return Optional.ofNullable(CONTEXT.get()).get();
+    }
 
     /**
-     * Configuration
+     * Get analysis context of current thread without checking
+     *
+     * @return Analysis context or null if absent
      */
-    private static final ThreadLocal<Configuration> CONFIGURATION = new ThreadLocal<>();
+    static AnalysisContext peekContext() {
+        return CONTEXT.get();
+    }
 
     /**
-     * Document provider function
+     * Set analysis context to current thread
+     *
+     * @param context Analysis context
      */
-    private static final ThreadLocal<Function<Class<?>, ClassDoc>> DOCUMENT_PROVIDER = new ThreadLocal<>();
+    public static void setContext(AnalysisContext context) {
+        CONTEXT.set(context);
+    }
 
     /**
-     * Include group identities
+     * Get analysis context builder with the values of current context, the schema cache and string pool of current
+     * context are kept, a new analysis context with its own schema cache and string pool is built if absent
+     *
+     * @return Analysis context builder
      */
-    private static final ThreadLocal<Set<String>> INCLUDE_GROUP_IDENTITIES = new ThreadLocal<>();
-
-    private ContextHelper() {
+    private static AnalysisContext.AnalysisContextBuilder rebuild() {
+        AnalysisContext context = CONTEXT.get();
+        return context == null ? AnalysisContext.builder() : context.toBuilder();
     }
 
     /**
@@ -47,7 +62,7 @@ public final class ContextHelper {
      * @return Class path
      */
     public static String getClasspath() {
-        return Optional.ofNullable(CLASSPATH.get()).get();
+        return Optional.ofNullable(getContext().getClasspath()).get();
     }
 
     /**
@@ -56,7 +71,7 @@ public final class ContextHelper {
      * @param classpath Class path
      */
     public static void setClasspath(String classpath) {
-        CLASSPATH.set(classpath);
+        CONTEXT.set(rebuild().classpath(classpath).build());
     }
 
     /**
@@ -65,7 +80,7 @@ public final class ContextHelper {
      * @return Class loader
      */
     public static ClassLoader getClassLoader() {
-        return Optional.ofNullable(CLASS_LOADER.get()).get();
+        return Optional.ofNullable(getContext().getClassLoader()).get();
     }
 
     /**
@@ -74,7 +89,7 @@ public final class ContextHelper {
      * @param classLoader Class loader
      */
     public static void setClassLoader(ClassLoader classLoader) {
-        CLASS_LOADER.set(classLoader);
+        CONTEXT.set(rebuild().classLoader(classLoader).build());
     }
 
     /**
@@ -83,7 +98,7 @@ public final class ContextHelper {
      * @return Configuration object
      */
     public static Configuration getConfiguration() {
-        return Optional.ofNullable(CONFIGURATION.get()).get();
+        return Optional.ofNullable(getContext().getConfiguration()).get();
     }
 
     /**
@@ -92,7 +107,7 @@ public final class ContextHelper {
      * @param configuration Configuration object
      */
     public static void setConfiguration(Configuration configuration) {
-        CONFIGURATION.set(configuration);
+        CONTEXT.set(rebuild().configuration(configuration).build());
     }
 
     /**
@@ -100,8 +115,28 @@ public final class ContextHelper {
      *
      * @param documentProvider Document provider object
      */
-    public static void setDocumentProvider(Function<Class<?>, ClassDoc> documentProvider) {
-        DOCUMENT_PROVIDER.set(documentProvider);
+    public static void setDocumentProvider(Function<Class<?>, ClassComment> documentProvider) {
+        setDocumentProvider(documentProvider, DocumentCache.DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Set document provider to current context with cache capacity
+     *
+     * @param documentProvider Document provider object
+     * @param cacheCapacity    Document cache capacity
+     */
+    public static void setDocumentProvider(Function<Class<?>, ClassComment> documentProvider, int cacheCapacity) {
+        CONTEXT.set(rebuild().documentProvider(documentProvider instanceof DocumentCache ? documentProvider
+                : new DocumentCache(documentProvider, cacheCapacity)).build());
+    }
+
+    /**
+     * Get document cache of current context
+     *
+     * @return Document cache
+     */
+    public static DocumentCache getDocumentCache() {
+        return Optional.ofNullable(getContext().getDocumentProvider()).get();
     }
 
     /**
@@ -110,7 +145,7 @@ public final class ContextHelper {
      * @return Include group identities
      */
     public static Set<String> getIncludeGroupIdentities() {
-        return Optional.ofNullable(INCLUDE_GROUP_IDENTITIES.get()).get();
+        return getContext().getIncludeGroupIdentities();
     }
 
     /**
@@ -119,17 +154,83 @@ public final class ContextHelper {
      * @param includeGroupIdentities Group identities for include
      */
     public static void setIncludeGroupIdentities(Set<String> includeGroupIdentities) {
-        INCLUDE_GROUP_IDENTITIES.set(Collections.unmodifiableSet(includeGroupIdentities));
+        CONTEXT.set(rebuild().includeGroupIdentities(includeGroupIdentities).build());
     }
 
     /**
-     * Get class document
+     * Get parameter schema cache of current context
+     *
+     * @return Parameter schema cache
+     */
+    public static SchemaCache getSchemaCache() {
+        return getContext().getSchemaCache();
+    }
+
+    /**
+     * Get string pool of current context
+     *
+     * @return String pool
+     */
+    public static StringPool getStringPool() {
+        return getContext().getStringPool();
+    }
+
+    /**
+     * Get source comment index of current context
+     *
+     * @return Source comment index
+     */
+    public static CommentIndex getCommentIndex() {
+        return getContext().getCommentIndex();
+    }
+
+    /**
+     * Set source comment index to current context
+     *
+     * @param commentIndex Source comment index
+     */
+    public static void setCommentIndex(CommentIndex commentIndex) {
+        CONTEXT.set(rebuild().commentIndex(commentIndex).build());
+    }
+
+    /**
+     * Get analysis listener of current context
+     *
+     * @return Analysis listener
+     */
+    public static AnalysisListener getListener() {
+        return getContext().getListener();
+    }
+
+    /**
+     * Set analysis listener to current context
+     *
+     * @param listener Analysis listener
+     */
+    public static void setListener(AnalysisListener listener) {
+        CONTEXT.set(rebuild().listener(listener).build());
+    }
+
+    /**
+     * Get class comment of current context
      *
      * @param clazz Class object
-     * @return Class document
+     * @return Class comment or null if absent
+     */
+    public static ClassComment getClassComment(Class<?> clazz) {
+        return getContext().getClassComment(clazz);
+    }
+
+    /**
+     * Evict class documents of controller class from current context
+     *
+     * @param clazz Controller class object
      */
-    public static ClassDoc getDocument(Class<?> clazz) {
-        return clazz == null ? null : Optional.ofNullable(DOCUMENT_PROVIDER.get()).get().apply(clazz);
+    public static void evictDocument(Class<?> clazz) {
+        AnalysisContext context = CONTEXT.get();
+        if (context != null) {
+            context.evictDocument(clazz);
+        }
     }
 
     /**
@@ -139,17 +240,13 @@ public final class ContextHelper {
      * @return true/false
      */
     public static boolean isActivePackage(Package pkg) {
-        return pkg == null || getIncludeGroupIdentities().stream().anyMatch(pkg.getName()::startsWith);
+        return getContext().isActivePackage(pkg);
     }
 
     /**
      * Clear context
      */
     public static void clear() {
-        CLASSPATH.remove();
-        CLASS_LOADER.remove();
-        CONFIGURATION.remove();
-        DOCUMENT_PROVIDER.remove();
-        INCLUDE_GROUP_IDENTITIES.remove();
+        CONTEXT.remove();
     }
 }
@@ -0,0 +1,236 @@
+package com.arsframework.apidoc.core;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Bounded class comment cache with least recently used eviction, the class comments with the comments of fields and
+ * methods are loaded by the document provider. The concurrent loads of the same class are coalesced into one provider
+ * invocation, the different classes are loaded concurrently unless the provider is marked as {@link Serial}
+ *
+ * @author Woody
+ */
+public class DocumentCache implements Function<Class<?>, ClassComment> {
+    /**
+     * Default cache capacity
+     */
+    public static final int DEFAULT_CAPACITY = 256;
+
+    /**
+     * Cache capacity
+     */
+    private final int capacity;
+
+    /**
+     * Document provider function
+     */
+    private final Function<Class<?>, ClassComment> provider;
+
+    /**
+     * Document provider lock of serial provider
+     */
+    private final Object providerLock = new Object();
+
+    /**
+     * Class and comment mappings, the comment is null if the document is absent
+     */
+    private final Map<Class<?>, ClassComment> documents;
+
+    /**
+     * Class and loading comment mappings
+     */
+    private final Map<Class<?>, CompletableFuture<ClassComment>> loadings = new HashMap<>();
+
+    /**
+     * Cache hit count
+     */
+    private final AtomicLong hits = new AtomicLong();
+
+    /**
+     * Cache miss count
+     */
+    private final AtomicLong misses = new AtomicLong();
+
+    public DocumentCache(Function<Class<?>, ClassComment> provider) {
+        this(provider, DEFAULT_CAPACITY);
+    }
+
+    public DocumentCache(Function<Class<?>, ClassComment> provider, int capacity) {
+        Objects.requireNonNull(provider, "provider not specified");
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Invalid capacity: " + capacity);
+        }
+        this.provider = provider;
+        this.capacity = capacity;
+        this.documents = new LinkedHashMap<Class<?>, ClassComment>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Class<?>, ClassComment> eldest) {
+                return this.size() > DocumentCache.this.capacity;
+            }
+        };
+    }
+
+    /**
+     * Get cache capacity
+     *
+     * @return Cache capacity
+     */
+    public int getCapacity() {
+        return this.capacity;
+    }
+
+    /**
+     * Get document provider function
+     *
+     * @return Document provider function
+     */
+    public Function<Class<?>, ClassComment> getProvider() {
+        return this.provider;
+    }
+
+    /**
+     * Get cache size
+     *
+     * @return Cache size
+     */
+    public synchronized int getSize() {
+        return this.documents.size();
+    }
+
+    /**
+     * Get cache hit count
+     *
+     * @return Hit count
+     */
+    public long getHits() {
+        return this.hits.get();
+    }
+
+    /**
+     * Get cache miss count
+     *
+     * @return Miss count
+     */
+    public long getMisses() {
+        return this.misses.get();
+    }
+
+    /**
+     * Get cache hit ratio
+     *
+     * @return Hit ratio
+     */
+    public double getHitRatio() {
+        long hits = this.hits.get(), total = hits + this.misses.get();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    /**
+     * Get class comment, load it with document provider if not cached, the caller waits for the comment if the class
+     * is being loaded by another thread
+     *
+     * @param clazz Class object
+     * @return Class comment or null if the document is absent
+     */
+    @Override
+    public ClassComment apply(Class<?> clazz) {
+        Objects.requireNonNull(clazz, "clazz not specified");
+        CompletableFuture<ClassComment> loading;
+        synchronized (this) {
+            ClassComment comment = this.documents.get(clazz);
+            if (comment != null || this.documents.containsKey(clazz)) {
+                this.hits.incrementAndGet();
+                return comment;
+            }
+            loading = this.loadings.get(clazz);
+            if (loading == null) {
+                this.loadings.put(clazz, new CompletableFuture<>());
+            }
+        }
+        if (loading != null) {
+            this.hits.incrementAndGet();
+            try {
+                return loading.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+            }
+        }
+        this.misses.incrementAndGet();
+        ClassComment comment;
+        try {
+            comment = this.load(clazz);
+        } catch (RuntimeException | Error e) {
+            synchronized (this) {
+                loading = this.loadings.remove(clazz);
+            }
+            loading.completeExceptionally(e);
+            throw e;
+        }
+        synchronized (this) {
+            this.documents.put(clazz, comment);
+            loading = this.loadings.remove(clazz);
+        }
+        loading.complete(comment);
+        return comment;
+    }
+
+    /**
+     * Load class comment with document provider, the serial provider is invoked under the provider lock
+     *
+     * @param clazz Class object
+     * @return Class comment or null if the document is absent
+     */
+    private ClassComment load(Class<?> clazz) {
+        if (this.provider instanceof Serial) {
+            synchronized (this.providerLock) {
+                return this.invoke(clazz);
+            }
+        }
+        return this.invoke(clazz);
+    }
+
+    /**
+     * Invoke document provider
+     *
+     * @param clazz Class object
+     * @return Class comment or null if the document is absent
+     */
+    private ClassComment invoke(Class<?> clazz) {
+        Object event = AnalysisEvents.beginDocument(clazz);
+        ClassComment comment = this.provider.apply(clazz);
+        AnalysisEvents.commitDocument(event, comment != null);
+        return comment;
+    }
+
+    /**
+     * Evict class comment and comments of nested classes
+     *
+     * @param clazz Class object
+     */
+    public synchronized void evict(Class<?> clazz) {
+        Objects.requireNonNull(clazz, "clazz not specified");
+        String prefix = clazz.getName() + '$';
+        this.documents.keySet().removeIf(c -> c == clazz || c.getName().startsWith(prefix));
+    }
+
+    /**
+     * Clear cached comments and statistics
+     */
+    public synchronized void clear() {
+        this.documents.clear();
+        this.hits.set(0);
+        this.misses.set(0);
+    }
+
+    /**
+     * Marker of the document providers which are not thread safe, such providers are never invoked concurrently
+     */
+    public interface Serial {
+    }
+}
@@ -0,0 +1,93 @@
+package com.arsframework.apidoc.core;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Class path of parameter expansion which counts the classes by identity, so the depth and recursion checks are O(1)
+ *
+ * @author Woody
+ */
+public class ExpansionPath {
+    /**
+     * Expanding classes
+     */
+    private final Deque<Class<?>> classes = new ArrayDeque<>();
+
+    /**
+     * Class and count mappings
+     */
+    private final Map<Class<?>, int[]> counts = new IdentityHashMap<>();
+
+    public ExpansionPath() {
+    }
+
+    public ExpansionPath(ExpansionPath path) {
+        this(Objects.requireNonNull(path, "path not specified").classes);
+    }
+
+    public ExpansionPath(Iterable<Class<?>> classes) {
+        Objects.requireNonNull(classes, "classes not specified");
+        for (Class<?> clazz : classes) {
+            this.push(clazz);
+        }
+    }
+
+    /**
+     * Push class to the end of path
+     *
+     * @param clazz Class object
+     */
+    public void push(Class<?> clazz) {
+        Objects.requireNonNull(clazz, "clazz not specified");
+        this.classes.addLast(clazz);
+        this.counts.computeIfAbsent(clazz, c -> new int[1])[0]++;
+    }
+
+    /**
+     * Pop class from the end of path
+     *
+     * @return Class object
+     */
+    public Class<?> pop() {
+        Class<?> clazz = this.classes.removeLast();
+        int[] count = this.counts.get(clazz);
+        if (--count[0] == 0) {
+            this.counts.remove(clazz);
+        }
+        return clazz;
+    }
+
+    /**
+     * Get count of class in path
+     *
+     * @param clazz Class object
+     * @return Class count
+     */
+    public int count(Class<?> clazz) {
+        int[] count = clazz == null ? null : this.counts.get(clazz);
+        return count == null ? 0 : count[0];
+    }
+
+    /**
+     * Get path depth
+     *
+     * @return Path depth
+     */
+    public int depth() {
+        return this.classes.size();
+    }
+
+    /**
+     * Get the classes of path from the first to the last
+     *
+     * @return Class list
+     */
+    public LinkedList<Class<?>> toList() {
+        return new LinkedList<>(this.classes);
+    }
+}
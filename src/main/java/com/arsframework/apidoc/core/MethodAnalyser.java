@@ -1,14 +1,11 @@
 package com.arsframework.apidoc.core;
 
 import java.lang.reflect.Method;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 
-import com.sun.javadoc.ClassDoc;
-import com.sun.javadoc.MethodDoc;
 import org.springframework.web.bind.annotation.RequestMethod;
 
 /**
@@ -17,29 +14,52 @@ import org.springframework.web.bind.annotation.RequestMethod;
  * @author Woody
  */
 public class MethodAnalyser {
+    /**
+     * Analysis context
+     */
+    protected final AnalysisContext context;
+
     /**
      * Api method object
      */
     protected final Method method;
 
     /**
-     * Method document object
+     * Method analysis session
      */
-    protected final MethodDoc document;
+    protected final MethodAnalysisSession session;
 
     public MethodAnalyser(Method method) {
-        Objects.requireNonNull(method, "method not specified");
-        this.method = method;
-        this.document = DocumentHelper.getDocument(method);
+        this(ContextHelper.getContext(), method);
+    }
+
+    public MethodAnalyser(AnalysisContext context, Method method) {
+        this(new MethodAnalysisSession(context, method));
+    }
+
+    public MethodAnalyser(MethodAnalysisSession session) {
+        Objects.requireNonNull(session, "session not specified");
+        this.session = session;
+        this.context = session.getContext();
+        this.method = session.getMethod();
     }
 
     /**
-     * Get class document of method
+     * Get method comment, the comment is loaded on the first access
      *
-     * @return Class document object
+     * @return Parsed comment
      */
-    protected ClassDoc getClassDocument() {
-        return this.document == null ? null : this.document.containingClass();
+    protected ParsedComment getComment() {
+        return this.session.getComment();
+    }
+
+    /**
+     * Get class comment of method, the comment is loaded on the first access
+     *
+     * @return Parsed comment
+     */
+    protected ParsedComment getClassComment() {
+        return this.session.getClassComment();
     }
 
     /**
@@ -57,7 +77,7 @@ public class MethodAnalyser {
      * @return Api uri
      */
     protected String getUri() {
-        return DocumentHelper.getApiUri(this.method);
+        return this.session.getMapping().getUri();
     }
 
     /**
@@ -66,7 +86,7 @@ public class MethodAnalyser {
      * @return Api name
      */
     protected String getName() {
-        String name = DocumentHelper.getCommentOutline(this.document);
+        String name = this.getComment().getOutline();
         return name == null ? this.method.getName() : name;
     }
 
@@ -76,7 +96,7 @@ public class MethodAnalyser {
      * @return Api tag
      */
     protected String getTag() {
-        String group = DocumentHelper.getCommentOutline(this.getClassDocument());
+        String group = this.getClassComment().getOutline();
         return group == null ? this.method.getDeclaringClass().getSimpleName() : group;
     }
 
@@ -95,7 +115,7 @@ public class MethodAnalyser {
      * @return Request mode
      */
     protected String getApiMode() {
-        return DocumentHelper.getApiMode(this.method);
+        return this.session.getMapping().getMode();
     }
 
     /**
@@ -104,7 +124,7 @@ public class MethodAnalyser {
      * @return Api description
      */
     protected String getDescription() {
-        return DocumentHelper.getCommentDescription(this.document);
+        return this.getComment().getDescription();
     }
 
     /**
@@ -113,7 +133,7 @@ public class MethodAnalyser {
      * @return Api date
      */
     protected String getDate() {
-        return DocumentHelper.getDateNote(this.document, this.getClassDocument());
+        return DocumentHelper.getDateNote(this.getComment(), this.getClassComment());
     }
 
     /**
@@ -122,7 +142,7 @@ public class MethodAnalyser {
      * @return Api version
      */
     protected String getVersion() {
-        return DocumentHelper.getVersionNote(this.document, this.getClassDocument());
+        return DocumentHelper.getVersionNote(this.getComment(), this.getClassComment());
     }
 
     /**
@@ -131,7 +151,7 @@ public class MethodAnalyser {
      * @return Api authors
      */
     protected List<String> getAuthors() {
-        return DocumentHelper.getAuthorNotes(this.document, this.getClassDocument());
+        return DocumentHelper.getAuthorNotes(this.getComment(), this.getClassComment());
     }
 
     /**
@@ -140,9 +160,8 @@ public class MethodAnalyser {
      * @return Api request methods
      */
     protected List<String> getMethods() {
-        Set<RequestMethod> methods = DocumentHelper.getApiMethods(this.method);
-        return methods.stream().sorted(Comparator.comparing(Enum::ordinal))
-                .map(method -> method.name().toLowerCase()).collect(Collectors.toList());
+        Set<RequestMethod> methods = this.session.getMapping().getMethods();
+        return methods.stream().map(method -> method.name().toLowerCase()).collect(Collectors.toList());
     }
 
     /**
@@ -151,7 +170,7 @@ public class MethodAnalyser {
      * @return Parameter analyser
      */
     protected ParameterAnalyser getParameterAnalyser() {
-        return new ParameterAnalyser(this.method);
+        return new ParameterAnalyser(this.session);
     }
 
     /**
@@ -160,12 +179,23 @@ public class MethodAnalyser {
      * @return Api object
      */
     public Api parse() {
+        AnalysisListener listener = this.context.getListener();
+        long start = listener == null ? 0 : System.nanoTime();
+        Object event = AnalysisEvents.beginParse(this.method);
         ParameterAnalyser parameterAnalyser = this.getParameterAnalyser();
         Objects.requireNonNull(parameterAnalyser, "ParameterAnalyser must not be null");
-        return Api.builder().key(this.getKey()).name(this.getName()).tag(this.getTag()).uri(this.getUri())
+        Api api = Api.builder().key(this.getKey()).name(this.getName()).tag(this.getTag()).uri(this.getUri())
                 .mode(this.getApiMode()).date(this.getDate()).version(this.getVersion()).methods(this.getMethods())
                 .description(this.getDescription()).deprecated(this.isDeprecated()).authors(this.getAuthors())
                 .parameters(parameterAnalyser.getParameters()).returned(parameterAnalyser.getReturned()).build();
+        api.setTruncated(parameterAnalyser.isExhausted());
+        this.context.getStringPool().canonicalize(api, false);
+        AnalysisEvents.commitParse(event, parameterAnalyser.getNodeCount(), api.isTruncated());
+        if (listener != null) {
+            listener.onParsed(this.context, this.method, api, parameterAnalyser.getNodeCount(),
+                    System.nanoTime() - start);
+        }
+        return api;
     }
 
     /**
@@ -173,11 +203,24 @@ public class MethodAnalyser {
      */
     public interface Factory {
         /**
-         * Build method analyser
+         * Build method analyser with the analysis context of current thread
          *
          * @param method Method object
          * @return Method analyser
          */
         MethodAnalyser build(Method method);
+
+        /**
+         * Build method analyser, the scanner binds the analysis context to current thread while the method analyser
+         * is built and parsed, so that the analysers built with the context of current thread work as well
+         *
+         * @param context Analysis context
+         * @param method  Method object
+         * @return Method analyser
+         */
+        default MethodAnalyser build(AnalysisContext context, Method method) {
+            Objects.requireNonNull(context, "context not specified");
+            return this.build(method);
+        }
     }
 }
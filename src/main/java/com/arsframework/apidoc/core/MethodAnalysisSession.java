@@ -0,0 +1,164 @@
+package com.arsframework.apidoc.core;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.Type;
+import java.util.Objects;
+
+/**
+ * Method analysis session which collects the reflective and document facts of api method once, the method parameters
+ * with their annotations, the generic types, the request mapping and the parsed comments are shared by the method
+ * analyser and parameter analyser of the same method, the comments are loaded on the first access
+ *
+ * @author Woody
+ */
+public class MethodAnalysisSession {
+    /**
+     * Analysis context
+     */
+    private final AnalysisContext context;
+
+    /**
+     * Api method object
+     */
+    private final Method method;
+
+    /**
+     * Method parameters, the parameter annotations are resolved once and cached by the parameter objects
+     */
+    private final Parameter[] parameters;
+
+    /**
+     * Generic types of method parameters
+     */
+    private final Type[] parameterTypes;
+
+    /**
+     * Generic return type of method
+     */
+    private final Type returnType;
+
+    /**
+     * Request mapping information of method
+     */
+    private final RequestMappingInfo mapping;
+
+    /**
+     * Method comment
+     */
+    private volatile ParsedComment comment;
+
+    /**
+     * Class comment of method
+     */
+    private volatile ParsedComment classComment;
+
+    public MethodAnalysisSession(Method method) {
+        this(ContextHelper.getContext(), method);
+    }
+
+    public MethodAnalysisSession(AnalysisContext context, Method method) {
+        Objects.requireNonNull(context, "context not specified");
+        Objects.requireNonNull(method, "method not specified");
+        this.context = context;
+        this.method = method;
+        this.parameters = method.getParameters();
+        this.parameterTypes = new Type[this.parameters.length];
+        for (int i = 0; i < this.parameters.length; i++) {
+            this.parameterTypes[i] = this.parameters[i].getParameterizedType();
+        }
+        this.returnType = method.getGenericReturnType();
+        this.mapping = RequestMappingInfo.of(method);
+    }
+
+    /**
+     * Get analysis context
+     *
+     * @return Analysis context
+     */
+    public AnalysisContext getContext() {
+        return this.context;
+    }
+
+    /**
+     * Get api method
+     *
+     * @return Method object
+     */
+    public Method getMethod() {
+        return this.method;
+    }
+
+    /**
+     * Get method parameter count
+     *
+     * @return Parameter count
+     */
+    public int getParameterCount() {
+        return this.parameters.length;
+    }
+
+    /**
+     * Get method parameter
+     *
+     * @param index Parameter index
+     * @return Parameter object
+     */
+    public Parameter getParameter(int index) {
+        return this.parameters[index];
+    }
+
+    /**
+     * Get generic type of method parameter
+     *
+     * @param index Parameter index
+     * @return Parameter type
+     */
+    public Type getParameterType(int index) {
+        return this.parameterTypes[index];
+    }
+
+    /**
+     * Get generic return type of method
+     *
+     * @return Return type
+     */
+    public Type getReturnType() {
+        return this.returnType;
+    }
+
+    /**
+     * Get request mapping information of method
+     *
+     * @return Request mapping information
+     */
+    public RequestMappingInfo getMapping() {
+        return this.mapping;
+    }
+
+    /**
+     * Get method comment
+     *
+     * @return Parsed comment
+     */
+    public ParsedComment getComment() {
+        ParsedComment comment = this.comment;
+        if (comment == null) {
+            this.comment = comment = DocumentHelper.getComment(this.context, this.method);
+        }
+        return comment;
+    }
+
+    /**
+     * Get class comment of method
+     *
+     * @return Parsed comment
+     */
+    public ParsedComment getClassComment() {
+        ParsedComment comment = this.classComment;
+        if (comment == null) {
+            this.classComment = comment = DocumentHelper.getComment(this.context, this.method.getDeclaringClass());
+        }
+        return comment;
+    }
+}
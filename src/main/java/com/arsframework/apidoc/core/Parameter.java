@@ -2,19 +2,27 @@ package com.arsframework.apidoc.core;
 
 import java.lang.reflect.Field;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 /**
- * Api parameter model
+ * Api parameter model, the lazy fields are expanded by {@link #getFields()} which is also invoked by equals, hashCode,
+ * toString and toBuilder
  *
  * @author Woody
  */
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class Parameter {
@@ -96,8 +104,83 @@ public class Parameter {
     /**
      * Parameter fields
      */
+    @Builder.ObtainVia(method = "getFields")
     private List<Parameter> fields;
 
+    /**
+     * Parameter type definition reference, the fields are shared by the type definition if present
+     */
+    private String reference;
+
+    /**
+     * Whether the parameter fields are truncated by recursion or expansion limits
+     */
+    private boolean truncated;
+
+    /**
+     * Lazy fields expander which is released after the fields are expanded
+     */
+    @Getter(AccessLevel.NONE)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private final transient AtomicReference<Supplier<List<Parameter>>> expander = new AtomicReference<>();
+
+    /**
+     * Get parameter fields, the lazy fields are expanded on first access. The expander is released once it has run
+     * even if the expansion fails, so the analyser captured by the expander is not retained by the parameter
+     *
+     * @return Parameter fields
+     */
+    public List<Parameter> getFields() {
+        if (this.expander.get() != null) {
+            synchronized (this.expander) {
+                Supplier<List<Parameter>> supplier = this.expander.get();
+                if (supplier != null) {
+                    try {
+                        this.fields = supplier.get();
+                    } finally {
+                        this.expander.set(null);
+                    }
+                }
+            }
+        }
+        return this.fields;
+    }
+
+    /**
+     * Set parameter fields, the lazy fields expander is discarded
+     *
+     * @param fields Parameter fields
+     */
+    public void setFields(List<Parameter> fields) {
+        synchronized (this.expander) {
+            this.expander.set(null);
+            this.fields = fields;
+        }
+    }
+
+    /**
+     * Set lazy fields expander which is invoked on the first access of fields
+     *
+     * @param expander Lazy fields expander
+     */
+    public void lazyFields(Supplier<List<Parameter>> expander) {
+        Objects.requireNonNull(expander, "expander not specified");
+        synchronized (this.expander) {
+            this.fields = null;
+            this.expander.set(expander);
+        }
+    }
+
+    /**
+     * Judge whether the fields are not expanded yet
+     *
+     * @return true/false
+     */
+    public boolean hasLazyFields() {
+        return this.expander.get() != null;
+    }
+
     /**
      * Parameter size
      */
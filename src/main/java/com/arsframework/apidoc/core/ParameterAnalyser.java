@@ -1,10 +1,5 @@
 package com.arsframework.apidoc.core;
 
-import java.io.File;
-import java.io.InputStream;
-import java.io.OutputStream;
-import java.io.Reader;
-import java.io.Writer;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Field;
@@ -12,16 +7,12 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
-import java.math.BigDecimal;
-import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Date;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
-import java.util.TimeZone;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import javax.validation.constraints.DecimalMax;
@@ -42,9 +33,6 @@ import com.fasterxml.jackson.annotation.JsonSubTypes;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.fasterxml.jackson.databind.PropertyNamingStrategy;
 import com.fasterxml.jackson.databind.annotation.JsonNaming;
-import com.sun.javadoc.FieldDoc;
-import com.sun.javadoc.MethodDoc;
-import org.springframework.core.io.InputStreamSource;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.CookieValue;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -52,7 +40,6 @@ import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.SessionAttribute;
 import org.springframework.web.bind.annotation.ValueConstants;
-import org.springframework.web.multipart.MultipartFile;
 
 /**
  * Parameter analyser
@@ -60,33 +47,186 @@ import org.springframework.web.multipart.MultipartFile;
  * @author Woody
  */
 public class ParameterAnalyser {
+    /**
+     * Analysis context
+     */
+    protected final AnalysisContext context;
+
     /**
      * Api method object
      */
     protected final Method method;
 
+    /**
+     * Method analysis session
+     */
+    protected final MethodAnalysisSession session;
+
+    /**
+     * Analyser class and whether the deprecated recursion check is overridden mappings
+     */
+    private static final ClassValue<Boolean> LEGACY_RECURSION = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return isOverridden(type, "isRecursion", LinkedList.class, Class.class);
+        }
+    };
+
+    /**
+     * Analyser class and whether the deprecated field conversion is overridden mappings
+     */
+    private static final ClassValue<Boolean> LEGACY_FIELD = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return isOverridden(type, "field2parameter", boolean.class, Object.class, Field.class, Map.class,
+                    LinkedList.class);
+        }
+    };
+
+    /**
+     * Current expansion depth
+     */
+    private int depth;
+
+    /**
+     * Nesting count of running expansions
+     */
+    private int expansions;
+
+    /**
+     * Expansion budget of the method analysis, it is replaced by a separate budget while lazy fields are expanded
+     */
+    private Budget budget;
+
     public ParameterAnalyser(Method method) {
-        Objects.requireNonNull(method, "method not specified");
-        this.method = method;
+        this(ContextHelper.getContext(), method);
+    }
+
+    public ParameterAnalyser(AnalysisContext context, Method method) {
+        this(new MethodAnalysisSession(context, method));
+    }
+
+    public ParameterAnalyser(MethodAnalysisSession session) {
+        Objects.requireNonNull(session, "session not specified");
+        this.session = session;
+        this.context = session.getContext();
+        this.method = session.getMethod();
+        this.budget = new Budget(this.context.getConfiguration());
+    }
+
+    /**
+     * Judge whether the analysis budget of nodes or time is exhausted, the parameters are partial if exhausted. The
+     * lazy fields are expanded with their own budgets, so they are not reflected after the method is analysed
+     *
+     * @return true/false
+     */
+    public boolean isExhausted() {
+        return this.budget.exhausted;
+    }
+
+    /**
+     * Get expanded parameter node count, the nodes of lazy fields are not counted
+     *
+     * @return Node count
+     */
+    public int getNodeCount() {
+        return this.budget.nodes;
+    }
+
+    /**
+     * Judge whether the method of analyser class overrides the method of parameter analyser
+     *
+     * @param type           Analyser class
+     * @param name           Method name
+     * @param parameterTypes Method parameter types
+     * @return true/false
+     */
+    private static boolean isOverridden(Class<?> type, String name, Class<?>... parameterTypes) {
+        for (Class<?> clazz = type; clazz != null && clazz != ParameterAnalyser.class; clazz = clazz.getSuperclass()) {
+            try {
+                clazz.getDeclaredMethod(name, parameterTypes);
+                return true;
+            } catch (NoSuchMethodException e) {
+                // Lookup the method of super class
+            }
+        }
+        return false;
     }
 
     /**
-     * Judge whether the class is reiterated
+     * Judge whether the class is reiterated more than the maximum recursion repeat times
      *
      * @param stack Class stack
      * @param clazz Target class object
      * @return true/false
+     * @deprecated Use {@link #isRecursion(ExpansionPath, Class)} instead, the overrides of this method are still
+     * invoked but the expansion path is copied to a class stack for every check
      */
+    @Deprecated
     protected boolean isRecursion(LinkedList<Class<?>> stack, Class<?> clazz) {
-        if (stack != null && clazz != null) {
-            int count = 0;
-            for (Class<?> c : stack) {
-                if (c == clazz && ++count > 1) {
-                    return true;
+        return stack != null && clazz != null
+                && new ExpansionPath(stack).count(clazz) > this.context.getConfiguration().getMaxRecursionRepeat();
+    }
+
+    /**
+     * Judge whether the class is reiterated more than the maximum recursion repeat times
+     *
+     * @param path  Expansion path
+     * @param clazz Target class object
+     * @return true/false
+     */
+    @SuppressWarnings("deprecation")
+    protected boolean isRecursion(ExpansionPath path, Class<?> clazz) {
+        if (path != null && LEGACY_RECURSION.get(this.getClass())) {
+            return this.isRecursion(path.toList(), clazz);
+        }
+        return path != null && clazz != null
+                && path.count(clazz) > this.context.getConfiguration().getMaxRecursionRepeat();
+    }
+
+    /**
+     * Judge whether the expansion is out of the depth or node limits
+     *
+     * @return true/false
+     */
+    protected boolean isExceeded() {
+        Configuration configuration = this.context.getConfiguration();
+        Budget budget = this.budget;
+        if (!budget.exhausted && ((configuration.getMaxNodes() > 0 && budget.nodes >= configuration.getMaxNodes())
+                || (budget.deadline != 0 && System.nanoTime() - budget.deadline >= 0))) {
+            budget.exhausted = true;
+        }
+        return budget.exhausted || (configuration.getMaxDepth() > 0 && this.depth >= configuration.getMaxDepth());
+    }
+
+    /**
+     * Judge whether the cached schema is within the depth and node limits of current expansion
+     *
+     * @param schema Cached schema
+     * @return true/false
+     */
+    private boolean isWithinLimits(SchemaCache.Schema schema) {
+        Configuration configuration = this.context.getConfiguration();
+        return (configuration.getMaxDepth() <= 0 || this.depth + schema.getDepth() <= configuration.getMaxDepth())
+                && (configuration.getMaxNodes() <= 0
+                || this.budget.nodes + schema.getNodes() <= configuration.getMaxNodes());
+    }
+
+    /**
+     * Judge whether the parameters are expanded completely without lazy fields
+     *
+     * @param parameters Parameter list
+     * @return true/false
+     */
+    private static boolean isResolved(List<Parameter> parameters) {
+        if (parameters != null) {
+            for (Parameter parameter : parameters) {
+                if (parameter.hasLazyFields() || !isResolved(parameter.getFields())) {
+                    return false;
                 }
             }
         }
-        return false;
+        return true;
     }
 
     /**
@@ -111,7 +251,7 @@ public class ParameterAnalyser {
         if (parameter == null || type == null || parameter.isAnnotationPresent(SessionAttribute.class)) {
             return false;
         }
-        return ClassHelper.isMetaClass(type) || ContextHelper.isActivePackage(type.getPackage());
+        return ClassHelper.isMetaClass(type) || this.context.isActivePackage(type.getPackage());
     }
 
     /**
@@ -122,36 +262,7 @@ public class ParameterAnalyser {
      */
     protected Class<?> getType(Class<?> clazz) {
         Objects.requireNonNull(clazz, "clazz not specified");
-        if (clazz == byte.class || clazz == Byte.class) {
-            return Byte.class;
-        } else if (clazz == char.class || clazz == Character.class) {
-            return Character.class;
-        } else if (clazz == int.class || clazz == Integer.class) {
-            return Integer.class;
-        } else if (clazz == short.class || clazz == Short.class) {
-            return Short.class;
-        } else if (clazz == long.class || clazz == Long.class || BigInteger.class.isAssignableFrom(clazz)) {
-            return Long.class;
-        } else if (clazz == float.class || clazz == Float.class) {
-            return Float.class;
-        } else if (clazz == double.class || clazz == Double.class || BigDecimal.class.isAssignableFrom(clazz)) {
-            return Double.class;
-        } else if (clazz == boolean.class || clazz == Boolean.class) {
-            return Boolean.class;
-        } else if (clazz == Locale.class || TimeZone.class.isAssignableFrom(clazz) ||
-                Enum.class.isAssignableFrom(clazz) || CharSequence.class.isAssignableFrom(clazz)) {
-            return String.class;
-        } else if (ClassHelper.isDateClass(clazz)) {
-            return Date.class;
-        } else if (File.class.isAssignableFrom(clazz) || MultipartFile.class.isAssignableFrom(clazz)) {
-            return File.class;
-        } else if (Reader.class.isAssignableFrom(clazz) || InputStream.class.isAssignableFrom(clazz)
-                || InputStreamSource.class.isAssignableFrom(clazz)) {
-            return Reader.class;
-        } else if (Writer.class.isAssignableFrom(clazz) || OutputStream.class.isAssignableFrom(clazz)) {
-            return Writer.class;
-        }
-        return Object.class;
+        return TypeCategory.of(clazz).getType();
     }
 
     /**
@@ -165,7 +276,7 @@ public class ParameterAnalyser {
 
         JsonNaming naming = field.getAnnotation(JsonNaming.class);
         if (naming == null) {
-            return ContextHelper.getConfiguration().isEnableSnakeUnderlineConversion() ?
+            return this.context.getConfiguration().isEnableSnakeUnderlineConversion() ?
                     PropertyNamingStrategy.SNAKE_CASE : null;
         }
         Class<? extends PropertyNamingStrategy> clazz = naming.value();
@@ -370,7 +481,7 @@ public class ParameterAnalyser {
      */
     protected String getExample(Field field) {
         Objects.requireNonNull(field, "field not specified");
-        return DocumentHelper.getExampleNote(DocumentHelper.getDocument(field));
+        return DocumentHelper.getExampleNote(DocumentHelper.getComment(this.context, field));
     }
 
     /**
@@ -382,20 +493,7 @@ public class ParameterAnalyser {
      */
     protected Object getDefaultValue(Object instance, Field field) {
         Objects.requireNonNull(field, "field not specified");
-        if (instance != null) {
-            try {
-                // Get default value of field
-                field.setAccessible(true);
-                Object defaultValue = field.get(instance);
-                if (defaultValue != null
-                        && (!(defaultValue instanceof CharSequence) || ((CharSequence) defaultValue).length() > 0)) {
-                    return defaultValue;
-                }
-            } catch (ReflectiveOperationException e) {
-                throw new RuntimeException(e);
-            }
-        }
-        return null;
+        return ClassHelper.getDefaultValue(instance, field);
     }
 
     /**
@@ -423,9 +521,7 @@ public class ParameterAnalyser {
      */
     protected String getDescription(Field field) {
         Objects.requireNonNull(field, "field not specified");
-        FieldDoc document = DocumentHelper.getDocument(field);
-        String comment = document == null ? null : document.commentText();
-        return comment == null || (comment = comment.trim()).isEmpty() ? null : comment;
+        return DocumentHelper.getComment(this.context, field).getText();
     }
 
     /**
@@ -436,7 +532,7 @@ public class ParameterAnalyser {
      */
     protected String getDescription(java.lang.reflect.Parameter parameter) {
         Objects.requireNonNull(parameter, "parameter not specified");
-        return DocumentHelper.getParameterNote(parameter.getName(), DocumentHelper.getDocument(this.method));
+        return DocumentHelper.getParameterNote(parameter.getName(), this.session.getComment());
     }
 
     /**
@@ -447,16 +543,19 @@ public class ParameterAnalyser {
      */
     protected List<Parameter.Option> getOptions(Class<?> clazz) {
         Objects.requireNonNull(clazz, "clazz not specified");
-        List<Parameter.Option> options = new LinkedList<>();
-        if (Enum.class.isAssignableFrom(clazz)) {
-            for (Field field : clazz.getDeclaredFields()) {
-                if (field.isSynthetic() || !field.isEnumConstant()) {
-                    continue;
-                }
-                options.add(Parameter.Option.builder().key(field.getName()).value(this.getDescription(field))
-                        .deprecated(field.isAnnotationPresent(Deprecated.class)).build());
+        if (!Enum.class.isAssignableFrom(clazz)) {
+            return new ArrayList<>(0);
+        }
+        Field[] fields = clazz.getDeclaredFields();
+        ArrayList<Parameter.Option> options = new ArrayList<>(fields.length);
+        for (Field field : fields) {
+            if (field.isSynthetic() || !field.isEnumConstant()) {
+                continue;
             }
+            options.add(Parameter.Option.builder().key(field.getName()).value(this.getDescription(field))
+                    .deprecated(field.isAnnotationPresent(Deprecated.class)).build());
         }
+        options.trimToSize();
         return options;
     }
 
@@ -484,6 +583,113 @@ public class ParameterAnalyser {
     protected void afterInitializeParameter(Parameter parameter) {
     }
 
+    /**
+     * Complete parameter initialization and canonicalize the parameter strings
+     *
+     * @param parameter Parameter instance
+     */
+    private void completeParameter(Parameter parameter) {
+        long start = this.context.startPhase();
+        this.afterInitializeParameter(parameter);
+        this.context.finishPhase(AnalysisListener.Phase.INITIALIZATION, parameter.getField(), start);
+        this.context.getStringPool().canonicalize(parameter);
+    }
+
+    /**
+     * Get parameter schema cache, the subclass should return null if the parameters of the same class, type variables
+     * and direction may differ between methods
+     *
+     * @return Parameter schema cache
+     */
+    protected SchemaCache getSchemaCache() {
+        return this.context.getSchemaCache();
+    }
+
+    /**
+     * Expand the fields of class to parameters
+     *
+     * @param input       Is input parameter
+     * @param target      Target class
+     * @param type        Target type
+     * @param instantiate Whether the default values are resolved by class instance
+     * @param path        Expansion path
+     * @return Parameter list
+     */
+    private List<Parameter> expandParameters(boolean input, Class<?> target, Type type, boolean instantiate,
+                                             ExpansionPath path) {
+        SchemaCache cache = this.getSchemaCache();
+        Map<TypeVariable<?>, Type> variables = ClassHelper.getVariableParameterizedMappings(type);
+        SchemaCache.Key key = cache == null ? null : new SchemaCache.Key(this.getClass(),
+                this.context.getConfiguration(), this.context.getIncludeGroupIdentities(), target, variables, input,
+                instantiate);
+        SchemaCache.Schema schema = key == null ? null : cache.getSchema(key, path);
+        if (schema != null && this.isWithinLimits(schema)) {
+            this.budget.nodes += schema.getNodes();
+            return schema.getFields();
+        }
+        int truncations = this.budget.truncations;
+        Object instance = null;
+        if (instantiate && !this.isExceeded()) {
+            long start = this.context.startPhase();
+            instance = ClassHelper.getDefaultInstance(target);
+            this.context.finishPhase(AnalysisListener.Phase.INSTANTIATION, target, start);
+        }
+        Object defaultInstance = instance;
+        long start = this.expansions++ == 0 ? this.context.startPhase() : 0;
+        List<Parameter> parameters;
+        this.depth++;
+        try {
+            parameters = this.class2parameters(target,
+                    f -> this.field2parameter(input, defaultInstance, f, variables, path));
+        } finally {
+            this.depth--;
+            if (--this.expansions == 0) {
+                this.context.finishPhase(AnalysisListener.Phase.EXPANSION, target, start);
+            }
+        }
+        if (key != null && truncations == this.budget.truncations && isResolved(parameters)) {
+            cache.put(key, parameters, path);
+        }
+        return parameters;
+    }
+
+    /**
+     * Expand the parameter fields lazily on the first access, the expansion path and depth are captured and the
+     * expansion is serialized by the analyser. Whether the fields are truncated is decided at access time, each lazy
+     * expansion has its own node and time budget, and the counters of the analysed method are left untouched
+     *
+     * @param parameter   Parameter object
+     * @param input       Is input parameter
+     * @param target      Target class
+     * @param type        Target type
+     * @param instantiate Whether the default values are resolved by class instance
+     * @param path        Expansion path
+     */
+    private void expandLazily(Parameter parameter, boolean input, Class<?> target, Type type, boolean instantiate,
+                              ExpansionPath path) {
+        ExpansionPath captured = new ExpansionPath(path);
+        captured.push(target);
+        int depth = this.depth;
+        parameter.lazyFields(() -> {
+            synchronized (this) {
+                int current = this.depth;
+                Budget budget = this.budget;
+                this.depth = depth;
+                this.budget = new Budget(this.context.getConfiguration());
+                try {
+                    if (this.isExceeded()) {
+                        parameter.setTruncated(true);
+                        return null;
+                    }
+                    return this.expandParameters(input, target, type, instantiate, captured);
+                } finally {
+                    this.depth = current;
+                    this.budget = budget;
+                }
+            }
+        });
+    }
+
     /**
      * Get parameters with class fields
      *
@@ -495,7 +701,8 @@ public class ParameterAnalyser {
         Objects.requireNonNull(clazz, "clazz not specified");
         Objects.requireNonNull(consumer, "consumer not specified");
         Class<?> original = clazz;
-        List<Parameter> parameters = new LinkedList<>();
+        ArrayList<Parameter> parameters = new ArrayList<>();
+        Object event = AnalysisEvents.beginExpansion(clazz, this.depth);
 
         // Load current and parent class fields
         do {
@@ -510,6 +717,8 @@ public class ParameterAnalyser {
                 this.classParameterIterating(type.value(), field -> parameters.add(consumer.apply(field)));
             }
         }
+        parameters.trimToSize();
+        AnalysisEvents.commitExpansion(event, parameters.size());
         return parameters;
     }
 
@@ -522,9 +731,47 @@ public class ParameterAnalyser {
      * @param variables Type variable and type mappings
      * @param stack     Class stack
      * @return Parameter object
+     * @deprecated Use {@link #field2parameter(boolean, Object, Field, Map, ExpansionPath)} instead, the overrides of
+     * this method are still invoked but the expansion path is copied to a class stack for every field
      */
+    @Deprecated
     protected Parameter field2parameter(boolean input, Object instance, Field field,
                                         Map<TypeVariable<?>, Type> variables, LinkedList<Class<?>> stack) {
+        return this.convertField(input, instance, field, variables,
+                stack == null ? new ExpansionPath() : new ExpansionPath(stack));
+    }
+
+    /**
+     * Convert field to parameter
+     *
+     * @param input     Is input parameter
+     * @param instance  Class instance
+     * @param field     Field object
+     * @param variables Type variable and type mappings
+     * @param path      Expansion path
+     * @return Parameter object
+     */
+    @SuppressWarnings("deprecation")
+    protected Parameter field2parameter(boolean input, Object instance, Field field,
+                                        Map<TypeVariable<?>, Type> variables, ExpansionPath path) {
+        if (LEGACY_FIELD.get(this.getClass())) {
+            return this.field2parameter(input, instance, field, variables, path == null ? null : path.toList());
+        }
+        return this.convertField(input, instance, field, variables, path);
+    }
+
+    /**
+     * Convert field to parameter with the expansion path
+     *
+     * @param input     Is input parameter
+     * @param instance  Class instance
+     * @param field     Field object
+     * @param variables Type variable and type mappings
+     * @param path      Expansion path
+     * @return Parameter object
+     */
+    private Parameter convertField(boolean input, Object instance, Field field, Map<TypeVariable<?>, Type> variables,
+                                   ExpansionPath path) {
         Objects.requireNonNull(field, "field not specified");
         Type type = field.getGenericType();
         if (type instanceof TypeVariable && variables != null && variables.containsKey(type)) {
@@ -537,20 +784,32 @@ public class ParameterAnalyser {
             target = ClassHelper.type2class(type = ClassHelper.getCollectionActualType(type, variables));
         }
         boolean multiple = clazz.isArray() || Collection.class.isAssignableFrom(clazz);
+        long start = this.context.startPhase();
         Parameter parameter = Parameter.builder().field(field).input(input).type(this.getType(target)).original(target)
                 .name(this.getName(field)).size(this.getSize(field)).format(this.getFormat(field))
-                .required(this.isRequired(field)).multiple(multiple).example(this.getExample(field))
-                .deprecated(this.isDeprecated(field)).defaultValue(this.getDefaultValue(instance, field))
-                .description(this.getDescription(field)).options(this.getOptions(target)).build();
-        if (!ClassHelper.isMetaClass(target) && !this.isRecursion(stack, target)) {
-            stack.addLast(target);
-            Object targetInstance = multiple ? null : ClassHelper.getInstance(target);
-            Map<TypeVariable<?>, Type> finalVariables = ClassHelper.getVariableParameterizedMappings(type);
-            parameter.setFields(this.class2parameters(target,
-                    f -> this.field2parameter(input, targetInstance, f, finalVariables, stack)));
-            stack.removeLast();
+                .required(this.isRequired(field)).multiple(multiple).deprecated(this.isDeprecated(field))
+                .options(this.getOptions(target)).build();
+        this.context.finishPhase(AnalysisListener.Phase.ANNOTATION, field, start);
+        parameter.setExample(this.getExample(field));
+        parameter.setDefaultValue(this.getDefaultValue(instance, field));
+        parameter.setDescription(this.getDescription(field));
+        this.budget.nodes++;
+        if (!ClassHelper.isMetaClass(target)) {
+            if (this.isRecursion(path, target) || this.isExceeded()) {
+                this.budget.truncations++;
+                parameter.setTruncated(true);
+            } else if (this.context.getConfiguration().isLazyExpansion()) {
+                this.expandLazily(parameter, input, target, type, !multiple, path);
+            } else {
+                path.push(target);
+                try {
+                    parameter.setFields(this.expandParameters(input, target, type, !multiple, path));
+                } finally {
+                    path.pop();
+                }
+            }
         }
-        this.afterInitializeParameter(parameter);
+        this.completeParameter(parameter);
         return parameter;
     }
 
@@ -560,9 +819,10 @@ public class ParameterAnalyser {
      * @return Parameter list
      */
     public List<Parameter> getParameters() {
-        List<Parameter> parameters = new LinkedList<>();
-        for (java.lang.reflect.Parameter parameter : this.method.getParameters()) {
-            Type type = parameter.getParameterizedType();
+        ArrayList<Parameter> parameters = new ArrayList<>(this.session.getParameterCount());
+        for (int i = 0; i < this.session.getParameterCount(); i++) {
+            java.lang.reflect.Parameter parameter = this.session.getParameter(i);
+            Type type = this.session.getParameterType(i);
             Class<?> clazz = ClassHelper.type2class(type), target = clazz;
             if (clazz.isArray()) {
                 target = clazz.getComponentType();
@@ -575,31 +835,42 @@ public class ParameterAnalyser {
             }
 
             boolean multiple = clazz.isArray() || Collection.class.isAssignableFrom(clazz);
+            long start = this.context.startPhase();
             Parameter parent = Parameter.builder().input(true).type(this.getType(target)).original(target)
                     .name(this.getName(parameter)).size(this.getSize(parameter)).entry(this.getEntry(parameter))
                     .format(this.getFormat(parameter)).required(this.isRequired(parameter)).multiple(multiple)
                     .deprecated(this.isDeprecated(parameter)).defaultValue(this.getDefaultValue(parameter))
-                    .description(this.getDescription(parameter)).options(this.getOptions(target)).build();
+                    .options(this.getOptions(target)).build();
+            this.context.finishPhase(AnalysisListener.Phase.ANNOTATION, parameter, start);
+            parent.setDescription(this.getDescription(parameter));
             if (ClassHelper.isMetaClass(target)) {
-                this.afterInitializeParameter(parent);
+                this.budget.nodes++;
+                this.completeParameter(parent);
                 parameters.add(parent);
+            } else if (this.isExceeded()) {
+                // The budget is exhausted, the fields which would be flattened are skipped and the api is partial
+                this.budget.truncations++;
+                if (multiple) {
+                    this.budget.nodes++;
+                    parent.setName("/");
+                    parent.setTruncated(true);
+                    this.completeParameter(parent);
+                    parameters.add(parent);
+                }
             } else {
-                Object instance = multiple ? null : ClassHelper.getInstance(target);
-                LinkedList<Class<?>> stack = new LinkedList<>();
-                Map<TypeVariable<?>, Type> variables = ClassHelper.getVariableParameterizedMappings(type);
-                List<Parameter> fields = this.class2parameters(
-                        target, f -> this.field2parameter(true, instance, f, variables, stack)
-                );
+                List<Parameter> fields = this.expandParameters(true, target, type, !multiple, new ExpansionPath());
                 if (multiple) {
+                    this.budget.nodes++;
                     parent.setName("/");
                     parent.setFields(fields);
-                    this.afterInitializeParameter(parent);
+                    this.completeParameter(parent);
                     parameters.add(parent);
                 } else {
                     parameters.addAll(fields);
                 }
             }
         }
+        parameters.trimToSize();
         return parameters;
     }
 
@@ -609,7 +880,7 @@ public class ParameterAnalyser {
      * @return Parameter object
      */
     public Parameter getReturned() {
-        Type type = this.method.getGenericReturnType();
+        Type type = this.session.getReturnType();
         if (type == void.class) {
             return null;
         }
@@ -620,22 +891,54 @@ public class ParameterAnalyser {
             Map<TypeVariable<?>, Type> variables = ClassHelper.getVariableParameterizedMappings(type);
             target = ClassHelper.type2class(type = ClassHelper.getCollectionActualType(type, variables));
         }
-        MethodDoc document = DocumentHelper.getDocument(this.method);
-        String example = DocumentHelper.getExampleNote(document);
-        String description = DocumentHelper.getReturnNote(document);
+        ParsedComment comment = this.session.getComment();
+        String example = DocumentHelper.getExampleNote(comment);
+        String description = DocumentHelper.getReturnNote(comment);
         boolean multiple = clazz.isArray() || Collection.class.isAssignableFrom(clazz);
         Parameter parameter = Parameter.builder().input(false).type(this.getType(target)).original(target)
                 .multiple(multiple).name("/").example(example).description(description)
                 .options(this.getOptions(target)).build();
-        if (!ClassHelper.isMetaClass(target)) {
-            LinkedList<Class<?>> stack = new LinkedList<>();
-            stack.addLast(target);
-            Map<TypeVariable<?>, Type> variables = ClassHelper.getVariableParameterizedMappings(type);
-            parameter.setFields(
-                    this.class2parameters(target, f -> this.field2parameter(false, null, f, variables, stack))
-            );
-        }
-        this.afterInitializeParameter(parameter);
+        this.budget.nodes++;
+        if (!ClassHelper.isMetaClass(target) && this.isExceeded()) {
+            this.budget.truncations++;
+            parameter.setTruncated(true);
+        } else if (!ClassHelper.isMetaClass(target)) {
+            ExpansionPath path = new ExpansionPath();
+            path.push(target);
+            parameter.setFields(this.expandParameters(false, target, type, false, path));
+        }
+        this.completeParameter(parameter);
         return parameter;
     }
+
+    /**
+     * Expansion budget of node count and analysis time
+     */
+    private static final class Budget {
+        /**
+         * Deadline nanoseconds of analysis time budget, 0 if unlimited
+         */
+        private final long deadline;
+
+        /**
+         * Parameter node count
+         */
+        private int nodes;
+
+        /**
+         * Truncation count of recursion and expansion limits
+         */
+        private int truncations;
+
+        /**
+         * Whether the budget of nodes or time is exhausted
+         */
+        private boolean exhausted;
+
+        private Budget(Configuration configuration) {
+            long millis = configuration.getMaxMillis();
+            long deadline = millis <= 0 ? 0 : System.nanoTime() + millis * 1000000;
+            this.deadline = millis > 0 && deadline == 0 ? 1 : deadline;
+        }
+    }
 }
@@ -0,0 +1,268 @@
+package com.arsframework.apidoc.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Immutable structured comment parsed from document
+ *
+ * @author Woody
+ */
+public final class ParsedComment {
+    /**
+     * Empty comment
+     */
+    public static final ParsedComment EMPTY = new ParsedComment(null, Collections.emptyList(),
+            Collections.emptyMap(), Collections.emptyMap());
+
+    /**
+     * Parameter tag name
+     */
+    private static final String PARAM_TAG_NAME = "@param";
+
+    /**
+     * Comment text
+     */
+    private final String text;
+
+    /**
+     * Comment lines
+     */
+    private final List<String> lines;
+
+    /**
+     * Comment outline
+     */
+    private final String outline;
+
+    /**
+     * Comment description
+     */
+    private final String description;
+
+    /**
+     * Tag name and values mappings
+     */
+    private final Map<String, List<String>> tags;
+
+    /**
+     * Parameter name and note mappings
+     */
+    private final Map<String, String> parameters;
+
+    private ParsedComment(String text, List<String> lines, Map<String, List<String>> tags,
+                          Map<String, String> parameters) {
+        this.text = text;
+        this.lines = lines;
+        this.outline = lines.isEmpty() ? null : lines.get(0);
+        this.description = lines.size() < 2 ? null : String.join("\n", lines.subList(1, lines.size()));
+        this.tags = tags;
+        this.parameters = parameters;
+    }
+
+    /**
+     * Parse comment text and raw comment text which contains tags
+     *
+     * @param text Comment text
+     * @param raw  Raw comment text
+     * @return Parsed comment
+     */
+    public static ParsedComment parse(String text, String raw) {
+        List<String> lines = Collections.emptyList();
+        if (text != null) {
+            for (int start = 0, end; start < text.length(); start = end + 1) {
+                if ((end = text.indexOf('\n', start)) < 0) {
+                    end = text.length();
+                }
+                String line = trim(text, start, end);
+                if (line != null) {
+                    if (lines.isEmpty()) {
+                        lines = new ArrayList<>();
+                    }
+                    lines.add(line);
+                }
+            }
+        }
+        Map<String, List<String>> tags = Collections.emptyMap();
+        Map<String, String> parameters = Collections.emptyMap();
+        if (raw != null && raw.indexOf('@') >= 0) {
+            for (int start = 0, end; start < raw.length(); start = end + 1) {
+                if ((end = raw.indexOf('\n', start)) < 0) {
+                    end = raw.length();
+                }
+                while (start < end && Character.isWhitespace(raw.charAt(start))) {
+                    start++;
+                }
+                if (start == end || raw.charAt(start) != '@') {
+                    continue;
+                }
+                int offset = start + 1;
+                while (offset < end && Character.isLetter(raw.charAt(offset))) {
+                    offset++;
+                }
+                String value = trim(raw, offset, end);
+                if (offset == start + 1 || value == null) {
+                    continue;
+                }
+                String name = raw.substring(start, offset);
+                if (tags.isEmpty()) {
+                    tags = new HashMap<>();
+                }
+                tags.computeIfAbsent(name, k -> new ArrayList<>(1)).add(value);
+                if (name.equals(PARAM_TAG_NAME)) {
+                    int split = 0;
+                    while (split < value.length() && !Character.isWhitespace(value.charAt(split))) {
+                        split++;
+                    }
+                    String note = trim(value, split, value.length());
+                    if (note != null) {
+                        if (parameters.isEmpty()) {
+                            parameters = new HashMap<>();
+                        }
+                        parameters.putIfAbsent(value.substring(0, split), note);
+                    }
+                }
+            }
+        }
+        if (lines.isEmpty() && tags.isEmpty()) {
+            return EMPTY;
+        }
+        if (!tags.isEmpty()) {
+            tags.replaceAll((name, values) -> Collections.unmodifiableList(values));
+        }
+        return new ParsedComment(lines.isEmpty() ? null : text.trim(), Collections.unmodifiableList(lines),
+                Collections.unmodifiableMap(tags), Collections.unmodifiableMap(parameters));
+    }
+
+    /**
+     * Build comment with parsed values
+     *
+     * @param text       Comment text
+     * @param lines      Comment lines
+     * @param tags       Tag name and values mappings
+     * @param parameters Parameter name and note mappings
+     * @return Parsed comment
+     */
+    static ParsedComment of(String text, List<String> lines, Map<String, List<String>> tags,
+                            Map<String, String> parameters) {
+        Objects.requireNonNull(lines, "lines not specified");
+        Objects.requireNonNull(tags, "tags not specified");
+        Objects.requireNonNull(parameters, "parameters not specified");
+        if (lines.isEmpty() && tags.isEmpty()) {
+            return EMPTY;
+        }
+        Map<String, List<String>> values = new HashMap<>(tags);
+        values.replaceAll((name, value) -> Collections.unmodifiableList(value));
+        return new ParsedComment(text, Collections.unmodifiableList(lines), Collections.unmodifiableMap(values),
+                Collections.unmodifiableMap(parameters));
+    }
+
+    /**
+     * Get trimmed text between indexes
+     *
+     * @param text  Text content
+     * @param start Start index
+     * @param end   End index
+     * @return Trimmed text or null if blank
+     */
+    private static String trim(String text, int start, int end) {
+        while (start < end && Character.isWhitespace(text.charAt(start))) {
+            start++;
+        }
+        while (end > start && Character.isWhitespace(text.charAt(end - 1))) {
+            end--;
+        }
+        return start == end ? null : text.substring(start, end);
+    }
+
+    /**
+     * Get trimmed comment text
+     *
+     * @return Comment text
+     */
+    public String getText() {
+        return this.text;
+    }
+
+    /**
+     * Get comment lines
+     *
+     * @return Comment lines
+     */
+    public List<String> getLines() {
+        return this.lines;
+    }
+
+    /**
+     * Get comment outline
+     *
+     * @return Comment outline
+     */
+    public String getOutline() {
+        return this.outline;
+    }
+
+    /**
+     * Get comment description
+     *
+     * @return Comment description
+     */
+    public String getDescription() {
+        return this.description;
+    }
+
+    /**
+     * Get tag name and values mappings
+     *
+     * @return Tag name and values mappings
+     */
+    public Map<String, List<String>> getTags() {
+        return this.tags;
+    }
+
+    /**
+     * Get tag values
+     *
+     * @param name Tag name, such as "@author"
+     * @return Tag values
+     */
+    public List<String> getTags(String name) {
+        Objects.requireNonNull(name, "name not specified");
+        return this.tags.getOrDefault(name, Collections.emptyList());
+    }
+
+    /**
+     * Get first tag value
+     *
+     * @param name Tag name, such as "@author"
+     * @return Tag value
+     */
+    public String getTag(String name) {
+        List<String> values = this.getTags(name);
+        return values.isEmpty() ? null : values.get(0);
+    }
+
+    /**
+     * Get parameter name and note mappings
+     *
+     * @return Parameter name and note mappings
+     */
+    public Map<String, String> getParameters() {
+        return this.parameters;
+    }
+
+    /**
+     * Get parameter note
+     *
+     * @param name Parameter name
+     * @return Parameter note
+     */
+    public String getParameter(String name) {
+        Objects.requireNonNull(name, "name not specified");
+        return this.parameters.get(name);
+    }
+}
@@ -0,0 +1,393 @@
+package com.arsframework.apidoc.core;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * Immutable request mapping information of api method
+ *
+ * @author Woody
+ */
+public final class RequestMappingInfo {
+    /**
+     * Json request mode
+     */
+    public static final String JSON_MODE = "application/json";
+
+    /**
+     * Multipart request mode
+     */
+    public static final String MULTIPART_MODE = "multipart/form-data";
+
+    /**
+     * Form request mode
+     */
+    public static final String FORM_MODE = "application/x-www-form-urlencoded";
+
+    /**
+     * Controller class and mapping mappings
+     */
+    private static final ClassValue<ControllerMapping> CONTROLLER_MAPPINGS = new ClassValue<ControllerMapping>() {
+        @Override
+        protected ControllerMapping computeValue(Class<?> type) {
+            return new ControllerMapping(getClassMapping(type));
+        }
+    };
+
+    /**
+     * Api uri
+     */
+    private final String uri;
+
+    /**
+     * Api uris of all mapping paths
+     */
+    private final List<String> uris;
+
+    /**
+     * Request methods
+     */
+    private final Set<RequestMethod> methods;
+
+    /**
+     * Request mode
+     */
+    private final String mode;
+
+    /**
+     * Whether the request body is present
+     */
+    private final boolean body;
+
+    /**
+     * Whether the multipart file is present
+     */
+    private final boolean multipart;
+
+    private RequestMappingInfo(String prefix, Method method) {
+        Annotation[] mappings = new Annotation[6];
+        for (Annotation annotation : method.getAnnotations()) {
+            if (annotation instanceof RequestMapping) {
+                mappings[0] = annotation;
+            } else if (annotation instanceof PostMapping) {
+                mappings[1] = annotation;
+            } else if (annotation instanceof GetMapping) {
+                mappings[2] = annotation;
+            } else if (annotation instanceof PutMapping) {
+                mappings[3] = annotation;
+            } else if (annotation instanceof DeleteMapping) {
+                mappings[4] = annotation;
+            } else if (annotation instanceof PatchMapping) {
+                mappings[5] = annotation;
+            }
+        }
+
+        String suffix = null;
+        List<String> suffixes = new ArrayList<>(1);
+        EnumSet<RequestMethod> methods = EnumSet.noneOf(RequestMethod.class);
+        for (Annotation annotation : mappings) {
+            String[] paths = getPaths(annotation);
+            String mapping = getActiveMapping(paths);
+            if (mapping == null) {
+                continue;
+            }
+            if (suffix == null) {
+                suffix = mapping;
+            }
+            for (String path : paths) {
+                if (path != null && !(path = path.trim()).isEmpty() && !suffixes.contains(path)) {
+                    suffixes.add(path);
+                }
+            }
+            methods.addAll(getMethods(annotation));
+        }
+        if (methods.isEmpty()) {
+            methods = EnumSet.allOf(RequestMethod.class);
+        }
+        this.methods = Collections.unmodifiableSet(methods);
+        this.uri = join(prefix, suffix);
+        if (suffixes.size() < 2) {
+            this.uris = Collections.singletonList(this.uri);
+        } else {
+            List<String> uris = new ArrayList<>(suffixes.size());
+            for (String path : suffixes) {
+                uris.add(join(prefix, path));
+            }
+            this.uris = Collections.unmodifiableList(uris);
+        }
+
+        boolean body = false;
+        for (Annotation[] annotations : method.getParameterAnnotations()) {
+            for (Annotation annotation : annotations) {
+                if (annotation instanceof RequestBody) {
+                    body = true;
+                    break;
+                }
+            }
+        }
+        boolean multipart = false;
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        for (int i = 0; i < parameterTypes.length && !multipart; i++) {
+            Class<?> type = parameterTypes[i];
+            if (MultipartFile.class.isAssignableFrom(type)) {
+                multipart = true;
+            } else if (!ClassHelper.isMetaClass(type)) {
+                for (Field field : type.getDeclaredFields()) {
+                    if (!field.isSynthetic() && MultipartFile.class.isAssignableFrom(field.getType())) {
+                        multipart = true;
+                        break;
+                    }
+                }
+            }
+        }
+        this.body = body;
+        this.multipart = multipart;
+        if (body) {
+            this.mode = JSON_MODE;
+        } else if (multipart) {
+            this.mode = MULTIPART_MODE;
+        } else if (parameterTypes.length == 0 && !methods.contains(RequestMethod.GET)) {
+            this.mode = JSON_MODE;
+        } else {
+            this.mode = FORM_MODE;
+        }
+    }
+
+    /**
+     * Get request mapping information of method
+     *
+     * @param method Method object
+     * @return Request mapping information
+     */
+    public static RequestMappingInfo of(Method method) {
+        Objects.requireNonNull(method, "method not specified");
+        ControllerMapping mapping = CONTROLLER_MAPPINGS.get(method.getDeclaringClass());
+        RequestMappingInfo info = mapping.methods.get(method);
+        if (info == null) {
+            info = new RequestMappingInfo(mapping.prefix, method);
+            RequestMappingInfo previous = mapping.methods.putIfAbsent(method, info);
+            if (previous != null) {
+                info = previous;
+            }
+        }
+        return info;
+    }
+
+    /**
+     * Join uri prefix and suffix
+     *
+     * @param prefix Uri prefix
+     * @param suffix Uri suffix
+     * @return Api uri
+     */
+    private static String join(String prefix, String suffix) {
+        StringBuilder api = new StringBuilder();
+        if (prefix != null) {
+            api.append("/").append(prefix);
+        }
+        if (suffix != null) {
+            api.append("/").append(suffix);
+        }
+        return api.toString().replace("//", "/");
+    }
+
+    /**
+     * Get active mapping for request url
+     *
+     * @param mappings Request url array
+     * @return Request mapping url
+     */
+    private static String getActiveMapping(String[]... mappings) {
+        if (mappings == null || mappings.length == 0) {
+            return null;
+        }
+        for (String[] values : mappings) {
+            if (values == null || values.length == 0) {
+                continue;
+            }
+            for (String value : values) {
+                if (value != null && !(value = value.trim()).isEmpty()) {
+                    return value;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Get value and path of mapping annotation
+     *
+     * @param annotation Mapping annotation
+     * @return Mapping paths
+     */
+    private static String[] getPaths(Annotation annotation) {
+        String[] values, paths;
+        if (annotation instanceof RequestMapping) {
+            values = ((RequestMapping) annotation).value();
+            paths = ((RequestMapping) annotation).path();
+        } else if (annotation instanceof PostMapping) {
+            values = ((PostMapping) annotation).value();
+            paths = ((PostMapping) annotation).path();
+        } else if (annotation instanceof GetMapping) {
+            values = ((GetMapping) annotation).value();
+            paths = ((GetMapping) annotation).path();
+        } else if (annotation instanceof PutMapping) {
+            values = ((PutMapping) annotation).value();
+            paths = ((PutMapping) annotation).path();
+        } else if (annotation instanceof DeleteMapping) {
+            values = ((DeleteMapping) annotation).value();
+            paths = ((DeleteMapping) annotation).path();
+        } else if (annotation instanceof PatchMapping) {
+            values = ((PatchMapping) annotation).value();
+            paths = ((PatchMapping) annotation).path();
+        } else {
+            return new String[0];
+        }
+        String[] mappings = Arrays.copyOf(values, values.length + paths.length);
+        System.arraycopy(paths, 0, mappings, values.length, paths.length);
+        return mappings;
+    }
+
+    /**
+     * Get request methods of mapping annotation
+     *
+     * @param annotation Mapping annotation
+     * @return Request methods
+     */
+    private static List<RequestMethod> getMethods(Annotation annotation) {
+        if (annotation instanceof RequestMapping) {
+            return Arrays.asList(((RequestMapping) annotation).method());
+        } else if (annotation instanceof PostMapping) {
+            return Collections.singletonList(RequestMethod.POST);
+        } else if (annotation instanceof GetMapping) {
+            return Collections.singletonList(RequestMethod.GET);
+        } else if (annotation instanceof PutMapping) {
+            return Collections.singletonList(RequestMethod.PUT);
+        } else if (annotation instanceof DeleteMapping) {
+            return Collections.singletonList(RequestMethod.DELETE);
+        } else if (annotation instanceof PatchMapping) {
+            return Collections.singletonList(RequestMethod.PATCH);
+        }
+        return Collections.emptyList();
+    }
+
+    /**
+     * Get url mapping of class
+     *
+     * @param clazz Class object
+     * @return URL mapping
+     */
+    private static String getClassMapping(Class<?> clazz) {
+        String mapping;
+        Annotation annotation;
+        if ((annotation = clazz.getAnnotation(Controller.class)) != null
+                && !(mapping = ((Controller) annotation).value().trim()).isEmpty()) {
+            return mapping;
+        }
+        if ((annotation = clazz.getAnnotation(RestController.class)) != null
+                && !(mapping = ((RestController) annotation).value().trim()).isEmpty()) {
+            return mapping;
+        }
+        if ((annotation = clazz.getAnnotation(RequestMapping.class)) != null
+                && (mapping = getActiveMapping(((RequestMapping) annotation).value(),
+                ((RequestMapping) annotation).path())) != null) {
+            return mapping;
+        }
+        return null;
+    }
+
+    /**
+     * Get api uri
+     *
+     * @return Api uri
+     */
+    public String getUri() {
+        return this.uri;
+    }
+
+    /**
+     * Get api uris of all mapping paths
+     *
+     * @return Api uris
+     */
+    public List<String> getUris() {
+        return this.uris;
+    }
+
+    /**
+     * Get request methods
+     *
+     * @return Request methods
+     */
+    public Set<RequestMethod> getMethods() {
+        return this.methods;
+    }
+
+    /**
+     * Get request mode
+     *
+     * @return Request mode
+     */
+    public String getMode() {
+        return this.mode;
+    }
+
+    /**
+     * Judge whether the request body is present
+     *
+     * @return true/false
+     */
+    public boolean isBody() {
+        return this.body;
+    }
+
+    /**
+     * Judge whether the multipart file is present
+     *
+     * @return true/false
+     */
+    public boolean isMultipart() {
+        return this.multipart;
+    }
+
+    /**
+     * Request mappings of controller
+     */
+    private static final class ControllerMapping {
+        /**
+         * Url mapping of class
+         */
+        private final String prefix;
+
+        /**
+         * Method and request mapping information mappings
+         */
+        private final Map<Method, RequestMappingInfo> methods = new ConcurrentHashMap<>();
+
+        private ControllerMapping(String prefix) {
+            this.prefix = prefix;
+        }
+    }
+}
@@ -0,0 +1,465 @@
+package com.arsframework.apidoc.core;
+
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Resolved parameter schema cache of class fields
+ * <p>
+ * The cache is scoped to the analysis context and keyed by analyser class, configuration, include group identities,
+ * target class, type variable bindings and direction. Only expansions without any truncation are cached, because a
+ * truncated tree depends on the classes being expanded above it and the expansion limits. For the same reason a
+ * cached tree is only reused when none of its classes is repeated more often on the expansion path than when it was
+ * stored. Entries are copied on both store and load, so the cached trees are never exposed to callers. The cache is
+ * bounded with least recently used eviction, and the node count and depth of each tree are computed once when stored.
+ *
+ * @author Woody
+ */
+public class SchemaCache {
+    /**
+     * Default cache capacity
+     */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    /**
+     * Cache capacity
+     */
+    private final int capacity;
+
+    /**
+     * Key and schema mappings
+     */
+    private final Map<Key, Schema> schemas;
+
+    /**
+     * Cache hit count
+     */
+    private final AtomicLong hits = new AtomicLong();
+
+    /**
+     * Cache miss count
+     */
+    private final AtomicLong misses = new AtomicLong();
+
+    public SchemaCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public SchemaCache(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Invalid capacity: " + capacity);
+        }
+        this.capacity = capacity;
+        this.schemas = new LinkedHashMap<Key, Schema>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Schema> eldest) {
+                return this.size() > SchemaCache.this.capacity;
+            }
+        };
+    }
+
+    /**
+     * Get cache capacity
+     *
+     * @return Cache capacity
+     */
+    public int getCapacity() {
+        return this.capacity;
+    }
+
+    /**
+     * Get cache size
+     *
+     * @return Cache size
+     */
+    public synchronized int getSize() {
+        return this.schemas.size();
+    }
+
+    /**
+     * Get cache hit count
+     *
+     * @return Hit count
+     */
+    public long getHits() {
+        return this.hits.get();
+    }
+
+    /**
+     * Get cache miss count
+     *
+     * @return Miss count
+     */
+    public long getMisses() {
+        return this.misses.get();
+    }
+
+    /**
+     * Get cache hit ratio
+     *
+     * @return Hit ratio
+     */
+    public double getHitRatio() {
+        long hits = this.hits.get(), total = hits + this.misses.get();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    /**
+     * Get copy of cached parameter fields
+     *
+     * @param key Schema key
+     * @return Parameter field list or null if not cached
+     */
+    public List<Parameter> get(Key key) {
+        return this.get(key, null);
+    }
+
+    /**
+     * Get copy of cached parameter fields which are reusable on the expansion path
+     *
+     * @param key  Schema key
+     * @param path Expansion path
+     * @return Parameter field list or null if not cached or the cached classes are repeated more on the path
+     */
+    public List<Parameter> get(Key key, ExpansionPath path) {
+        Schema schema = this.getSchema(key, path);
+        return schema == null ? null : schema.getFields();
+    }
+
+    /**
+     * Get cached schema which is reusable on the expansion path, the node count and depth of schema are known without
+     * copying the fields
+     *
+     * @param key  Schema key
+     * @param path Expansion path
+     * @return Schema object or null if not cached or the cached classes are repeated more on the path
+     */
+    public Schema getSchema(Key key, ExpansionPath path) {
+        Objects.requireNonNull(key, "key not specified");
+        Schema schema;
+        synchronized (this) {
+            schema = this.schemas.get(key);
+        }
+        if (schema == null || !schema.isReusable(path)) {
+            this.misses.incrementAndGet();
+            return null;
+        }
+        this.hits.incrementAndGet();
+        return schema;
+    }
+
+    /**
+     * Put copy of parameter fields to cache, the fields must be expanded completely without lazy fields
+     *
+     * @param key    Schema key
+     * @param fields Parameter field list
+     */
+    public void put(Key key, List<Parameter> fields) {
+        this.put(key, fields, null);
+    }
+
+    /**
+     * Put copy of parameter fields which are expanded on the expansion path to cache, the fields must be expanded
+     * completely without lazy fields
+     *
+     * @param key    Schema key
+     * @param fields Parameter field list
+     * @param path   Expansion path
+     */
+    public void put(Key key, List<Parameter> fields, ExpansionPath path) {
+        Objects.requireNonNull(key, "key not specified");
+        Objects.requireNonNull(fields, "fields not specified");
+        Set<Class<?>> classes = new HashSet<>();
+        classes.add(key.target);
+        collect(fields, classes);
+        Map<Class<?>, Integer> repeats = new HashMap<>(classes.size() * 2);
+        for (Class<?> clazz : classes) {
+            repeats.put(clazz, path == null ? 0 : path.count(clazz));
+        }
+        Schema schema = new Schema(copy(fields), Collections.unmodifiableMap(repeats));
+        synchronized (this) {
+            this.schemas.put(key, schema);
+        }
+    }
+
+    /**
+     * Invalidate the schemas which reference the class
+     *
+     * @param clazz Class object
+     */
+    public synchronized void invalidate(Class<?> clazz) {
+        Objects.requireNonNull(clazz, "clazz not specified");
+        this.schemas.values().removeIf(schema -> schema.repeats.containsKey(clazz));
+    }
+
+    /**
+     * Clear cached schemas and statistics
+     */
+    public synchronized void clear() {
+        this.schemas.clear();
+        this.hits.set(0);
+        this.misses.set(0);
+    }
+
+    /**
+     * Collect the classes of parameters
+     *
+     * @param parameters Parameter list
+     * @param classes    Class set
+     */
+    private static void collect(List<Parameter> parameters, Set<Class<?>> classes) {
+        if (parameters != null) {
+            for (Parameter parameter : parameters) {
+                if (parameter.getOriginal() != null) {
+                    classes.add(parameter.getOriginal());
+                }
+                if (parameter.getField() != null) {
+                    classes.add(parameter.getField().getDeclaringClass());
+                }
+                collect(parameter.getFields(), classes);
+            }
+        }
+    }
+
+    /**
+     * Copy parameter list deeply
+     *
+     * @param parameters Parameter list
+     * @return Parameter list
+     */
+    public static List<Parameter> copy(List<Parameter> parameters) {
+        if (parameters == null) {
+            return null;
+        }
+        List<Parameter> copies = new ArrayList<>(parameters.size());
+        for (Parameter parameter : parameters) {
+            copies.add(copy(parameter));
+        }
+        return copies;
+    }
+
+    /**
+     * Copy parameter deeply, the lazy fields of source parameter are expanded before they are copied
+     *
+     * @param parameter Parameter object
+     * @return Parameter object
+     */
+    public static Parameter copy(Parameter parameter) {
+        if (parameter == null) {
+            return null;
+        }
+        Parameter.Size size = parameter.getSize();
+        List<Parameter.Option> options = parameter.getOptions();
+        List<Parameter.Option> optionCopies = null;
+        if (options != null) {
+            optionCopies = new ArrayList<>(options.size());
+            for (Parameter.Option option : options) {
+                optionCopies.add(Parameter.Option.builder().key(option.getKey()).value(option.getValue())
+                        .deprecated(option.isDeprecated()).build());
+            }
+        }
+        return Parameter.builder().field(parameter.getField()).input(parameter.isInput()).type(parameter.getType())
+                .original(parameter.getOriginal()).name(parameter.getName())
+                .size(size == null ? null : Parameter.Size.builder().min(size.getMin()).max(size.getMax()).build())
+                .entry(parameter.getEntry()).format(parameter.getFormat()).example(parameter.getExample())
+                .required(parameter.isRequired()).multiple(parameter.isMultiple())
+                .deprecated(parameter.isDeprecated()).defaultValue(parameter.getDefaultValue())
+                .description(parameter.getDescription()).options(optionCopies)
+                .fields(copy(parameter.getFields())).reference(parameter.getReference())
+                .truncated(parameter.isTruncated()).build();
+    }
+
+    /**
+     * Get depth of parameters
+     *
+     * @param parameters Parameter list
+     * @return Parameters depth
+     */
+    static int getDepth(List<Parameter> parameters) {
+        int depth = 0;
+        if (parameters != null) {
+            for (Parameter parameter : parameters) {
+                depth = Math.max(depth, getDepth(parameter.getFields()));
+            }
+            depth++;
+        }
+        return depth;
+    }
+
+    /**
+     * Get node count of parameters
+     *
+     * @param parameters Parameter list
+     * @return Node count
+     */
+    static int getNodes(List<Parameter> parameters) {
+        int nodes = 0;
+        if (parameters != null) {
+            for (Parameter parameter : parameters) {
+                nodes += 1 + getNodes(parameter.getFields());
+            }
+        }
+        return nodes;
+    }
+
+    /**
+     * Cached schema
+     */
+    public static final class Schema {
+        /**
+         * Parameter fields
+         */
+        private final List<Parameter> fields;
+
+        /**
+         * Classes referenced by fields and their counts on the expansion path when the fields are stored
+         */
+        private final Map<Class<?>, Integer> repeats;
+
+        /**
+         * Node count of fields
+         */
+        private final int nodes;
+
+        /**
+         * Depth of fields
+         */
+        private final int depth;
+
+        private Schema(List<Parameter> fields, Map<Class<?>, Integer> repeats) {
+            this.fields = fields;
+            this.repeats = repeats;
+            this.nodes = SchemaCache.getNodes(fields);
+            this.depth = SchemaCache.getDepth(fields);
+        }
+
+        /**
+         * Get copy of parameter fields
+         *
+         * @return Parameter field list
+         */
+        public List<Parameter> getFields() {
+            return copy(this.fields);
+        }
+
+        /**
+         * Get node count of fields
+         *
+         * @return Node count
+         */
+        public int getNodes() {
+            return this.nodes;
+        }
+
+        /**
+         * Get depth of fields
+         *
+         * @return Fields depth
+         */
+        public int getDepth() {
+            return this.depth;
+        }
+
+        /**
+         * Judge whether the fields are reusable on the expansion path, the recursion checks of the fields would differ
+         * if any referenced class is repeated more on the path
+         *
+         * @param path Expansion path
+         * @return true/false
+         */
+        private boolean isReusable(ExpansionPath path) {
+            if (path != null) {
+                for (Map.Entry<Class<?>, Integer> entry : this.repeats.entrySet()) {
+                    if (path.count(entry.getKey()) > entry.getValue()) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Schema key
+     */
+    public static final class Key {
+        /**
+         * Analyser class
+         */
+        private final Class<?> analyser;
+
+        /**
+         * Configuration of expansion
+         */
+        private final Configuration configuration;
+
+        /**
+         * Include group identities of expansion
+         */
+        private final Set<String> groups;
+
+        /**
+         * Target class
+         */
+        private final Class<?> target;
+
+        /**
+         * Type variable and type mappings
+         */
+        private final Map<TypeVariable<?>, Type> variables;
+
+        /**
+         * Is input parameter
+         */
+        private final boolean input;
+
+        /**
+         * Whether the default values are resolved by class instance
+         */
+        private final boolean instantiated;
+
+        public Key(Class<?> analyser, Configuration configuration, Set<String> groups, Class<?> target,
+                   Map<TypeVariable<?>, Type> variables, boolean input, boolean instantiated) {
+            Objects.requireNonNull(analyser, "analyser not specified");
+            Objects.requireNonNull(configuration, "configuration not specified");
+            Objects.requireNonNull(target, "target not specified");
+            this.analyser = analyser;
+            this.configuration = configuration;
+            this.groups = groups == null ? Collections.emptySet() : groups;
+            this.target = target;
+            this.variables = variables == null ? Collections.emptyMap() : variables;
+            this.input = input;
+            this.instantiated = instantiated;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return this.analyser == key.analyser && this.target == key.target && this.input == key.input
+                    && this.instantiated == key.instantiated && this.variables.equals(key.variables)
+                    && this.configuration.equals(key.configuration) && this.groups.equals(key.groups);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.analyser, this.configuration, this.groups, this.target, this.variables, this.input,
+                    this.instantiated);
+        }
+    }
+}
@@ -0,0 +1,753 @@
+package com.arsframework.apidoc.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Lightweight java source lexer which extracts the document comments of classes, fields, enum constants and methods
+ * without javadoc, the method bodies and field initializers are skipped and the local and anonymous classes are ignored
+ *
+ * @author Woody
+ */
+public final class SourceCommentExtractor {
+    /**
+     * End of source token
+     */
+    private static final int EOF = 0;
+
+    /**
+     * Identifier or keyword token
+     */
+    private static final int IDENTIFIER = 1;
+
+    /**
+     * String, character or number literal token
+     */
+    private static final int LITERAL = 2;
+
+    /**
+     * Symbol token
+     */
+    private static final int SYMBOL = 3;
+
+    /**
+     * Declaration modifiers
+     */
+    private static final Set<String> MODIFIERS = new HashSet<>(Arrays.asList("public", "protected", "private",
+            "static", "final", "abstract", "native", "synchronized", "transient", "volatile", "strictfp", "default",
+            "sealed", "non"));
+
+    /**
+     * Source content
+     */
+    private final CharSequence source;
+
+    /**
+     * Current position
+     */
+    private int position;
+
+    /**
+     * Current token type
+     */
+    private int type;
+
+    /**
+     * Current token text
+     */
+    private String token;
+
+    /**
+     * Whether the current token is pushed back
+     */
+    private boolean pushed;
+
+    /**
+     * Last document comment before current token
+     */
+    private String document;
+
+    /**
+     * Package name
+     */
+    private String packageName = "";
+
+    /**
+     * Binary class name and comment mappings
+     */
+    private final Map<String, ClassComment> comments = new LinkedHashMap<>();
+
+    private SourceCommentExtractor(CharSequence source) {
+        this.source = source;
+    }
+
+    /**
+     * Extract the class comments of java source
+     *
+     * @param source Java source content
+     * @return Binary class name and comment mappings
+     */
+    public static Map<String, ClassComment> extract(CharSequence source) {
+        Objects.requireNonNull(source, "source not specified");
+        SourceCommentExtractor extractor = new SourceCommentExtractor(source);
+        extractor.parseCompilationUnit();
+        return extractor.comments;
+    }
+
+    /**
+     * Parse document comment content
+     *
+     * @param content Comment content between "/**" and "*&#47;"
+     * @return Parsed comment
+     */
+    static ParsedComment parseComment(String content) {
+        if (content == null) {
+            return ParsedComment.EMPTY;
+        }
+        StringBuilder text = new StringBuilder(), raw = new StringBuilder();
+        boolean tagged = false;
+        for (int start = 0, end; start < content.length(); start = end + 1) {
+            if ((end = content.indexOf('\n', start)) < 0) {
+                end = content.length();
+            }
+            int offset = start;
+            while (offset < end && Character.isWhitespace(content.charAt(offset))) {
+                offset++;
+            }
+            while (offset < end && content.charAt(offset) == '*') {
+                offset++;
+            }
+            int trailing = end;
+            while (trailing > offset && content.charAt(trailing - 1) == '\r') {
+                trailing--;
+            }
+            if (!tagged) {
+                int first = offset;
+                while (first < trailing && Character.isWhitespace(content.charAt(first))) {
+                    first++;
+                }
+                tagged = first < trailing && content.charAt(first) == '@';
+            }
+            if (!tagged) {
+                text.append(content, offset, trailing).append('\n');
+            }
+            raw.append(content, offset, trailing).append('\n');
+        }
+        return ParsedComment.parse(text.toString(), raw.toString());
+    }
+
+    /**
+     * Read next token, the document comment before the token is recorded
+     *
+     * @return Token type
+     */
+    private int next() {
+        if (this.pushed) {
+            this.pushed = false;
+            return this.type;
+        }
+        CharSequence source = this.source;
+        int length = source.length();
+        while (this.position < length) {
+            char c = source.charAt(this.position);
+            if (Character.isWhitespace(c)) {
+                this.position++;
+            } else if (c == '/' && this.position + 1 < length && source.charAt(this.position + 1) == '/') {
+                while (this.position < length && source.charAt(this.position) != '\n') {
+                    this.position++;
+                }
+            } else if (c == '/' && this.position + 1 < length && source.charAt(this.position + 1) == '*') {
+                int start = this.position + 2;
+                int end = start;
+                while (end + 1 < length && !(source.charAt(end) == '*' && source.charAt(end + 1) == '/')) {
+                    end++;
+                }
+                if (start < end && source.charAt(start) == '*') {
+                    this.document = source.subSequence(start + 1, end).toString();
+                }
+                this.position = Math.min(end + 2, length);
+            } else {
+                break;
+            }
+        }
+        if (this.position >= length) {
+            this.token = null;
+            return this.type = EOF;
+        }
+        int start = this.position;
+        char c = source.charAt(start);
+        if (Character.isJavaIdentifierStart(c)) {
+            do {
+                this.position++;
+            } while (this.position < length && Character.isJavaIdentifierPart(source.charAt(this.position)));
+            this.token = source.subSequence(start, this.position).toString();
+            return this.type = IDENTIFIER;
+        } else if (c == '"' || c == '\'') {
+            if (c == '"' && start + 2 < length && source.charAt(start + 1) == '"' && source.charAt(start + 2) == '"') {
+                this.position = start + 3;
+                while (this.position + 2 < length && !(source.charAt(this.position) == '"'
+                        && source.charAt(this.position + 1) == '"' && source.charAt(this.position + 2) == '"')) {
+                    this.position += source.charAt(this.position) == '\\' ? 2 : 1;
+                }
+                this.position = Math.min(this.position + 3, length);
+            } else {
+                this.position++;
+                while (this.position < length && source.charAt(this.position) != c
+                        && source.charAt(this.position) != '\n') {
+                    this.position += source.charAt(this.position) == '\\' ? 2 : 1;
+                }
+                this.position = Math.min(this.position + 1, length);
+            }
+            this.token = null;
+            return this.type = LITERAL;
+        } else if (Character.isDigit(c)) {
+            do {
+                this.position++;
+            } while (this.position < length && (Character.isLetterOrDigit(source.charAt(this.position))
+                    || source.charAt(this.position) == '.' || source.charAt(this.position) == '_'));
+            this.token = null;
+            return this.type = LITERAL;
+        }
+        this.position++;
+        this.token = String.valueOf(c);
+        return this.type = SYMBOL;
+    }
+
+    /**
+     * Push back current token
+     */
+    private void pushBack() {
+        this.pushed = true;
+    }
+
+    /**
+     * Judge whether the current token is the symbol
+     *
+     * @param symbol Symbol character
+     * @return true/false
+     */
+    private boolean isSymbol(char symbol) {
+        return this.type == SYMBOL && this.token.charAt(0) == symbol;
+    }
+
+    /**
+     * Skip tokens to the matching close symbol, the open symbol is consumed already
+     *
+     * @param open  Open symbol
+     * @param close Close symbol
+     */
+    private void skipBalanced(char open, char close) {
+        for (int depth = 1; depth > 0 && this.next() != EOF; ) {
+            if (this.isSymbol(open)) {
+                depth++;
+            } else if (this.isSymbol(close)) {
+                depth--;
+            }
+        }
+    }
+
+    /**
+     * Collect tokens to the matching close angle bracket, the open angle bracket is consumed already
+     *
+     * @return Token list
+     */
+    private List<String> collectAngles() {
+        List<String> tokens = new ArrayList<>();
+        for (int depth = 1; this.next() != EOF; ) {
+            if (this.isSymbol('<')) {
+                depth++;
+            } else if (this.isSymbol('>') && --depth == 0) {
+                break;
+            } else if (this.isSymbol('(') || this.isSymbol('{') || this.isSymbol(';')) {
+                this.pushBack();
+                break;
+            }
+            if (this.type != LITERAL) {
+                tokens.add(this.token);
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Skip annotation, the "@" symbol is consumed already
+     */
+    private void skipAnnotation() {
+        if (this.next() != IDENTIFIER) {
+            this.pushBack();
+            return;
+        }
+        while (this.next() == SYMBOL && this.isSymbol('.')) {
+            if (this.next() != IDENTIFIER) {
+                break;
+            }
+        }
+        if (this.isSymbol('(')) {
+            this.skipBalanced('(', ')');
+        } else {
+            this.pushBack();
+        }
+    }
+
+    /**
+     * Parse type variables and erased bound names
+     *
+     * @param tokens    Type parameter tokens
+     * @param variables Type variable and erased bound name mappings
+     */
+    private static void parseVariables(List<String> tokens, Map<String, String> variables) {
+        int depth = 0;
+        String variable = null;
+        boolean bound = false;
+        for (String token : tokens) {
+            if (token.equals("<")) {
+                depth++;
+            } else if (token.equals(">")) {
+                depth--;
+            } else if (depth == 0 && token.equals(",")) {
+                variable = null;
+                bound = false;
+            } else if (depth == 0 && token.equals("extends")) {
+                bound = true;
+            } else if (depth == 0 && variable == null && Character.isJavaIdentifierStart(token.charAt(0))) {
+                variables.put(variable = token, "Object");
+            } else if (depth == 0 && bound && Character.isJavaIdentifierStart(token.charAt(0))) {
+                variables.put(variable, token);
+            } else if (depth == 0 && token.equals("&")) {
+                bound = false;
+            }
+        }
+    }
+
+    /**
+     * Get erased simple type name of parameter tokens which contain type and name
+     *
+     * @param tokens    Parameter tokens
+     * @param variables Type variable and erased bound name mappings
+     * @return Erased type name or null if the parameter is receiver parameter
+     */
+    private static String getErasureName(List<String> tokens, Map<String, String> variables) {
+        int depth = 0, dimension = 0, name = -1;
+        for (int i = tokens.size() - 1; i >= 0; i--) {
+            String token = tokens.get(i);
+            if (Character.isJavaIdentifierStart(token.charAt(0)) && !MODIFIERS.contains(token)) {
+                name = i;
+                break;
+            }
+        }
+        if (name < 0 || tokens.get(name).equals("this")) {
+            return null;
+        }
+        String type = null;
+        for (int i = 0; i < tokens.size(); i++) {
+            String token = tokens.get(i);
+            if (token.equals("<")) {
+                depth++;
+            } else if (token.equals(">")) {
+                depth--;
+            } else if (depth == 0 && token.equals("[")) {
+                dimension++;
+            } else if (depth == 0 && token.equals(".") && i + 2 < tokens.size() && tokens.get(i + 1).equals(".")
+                    && tokens.get(i + 2).equals(".")) {
+                dimension++;
+                i += 2;
+            } else if (depth == 0 && i < name && Character.isJavaIdentifierStart(token.charAt(0))
+                    && !MODIFIERS.contains(token)) {
+                type = token;
+            }
+        }
+        if (type == null) {
+            return null;
+        }
+        for (int i = variables.size(); i > 0 && variables.containsKey(type); i--) {
+            // The bound of type variable may be another type variable such as <V extends T>
+            type = variables.get(type);
+        }
+        StringBuilder erasure = new StringBuilder(type);
+        while (dimension-- > 0) {
+            erasure.append("[]");
+        }
+        return erasure.toString();
+    }
+
+    /**
+     * Parse compilation unit
+     */
+    private void parseCompilationUnit() {
+        while (this.next() != EOF) {
+            if (this.type == IDENTIFIER && this.token.equals("package")) {
+                StringBuilder name = new StringBuilder();
+                while (this.next() != EOF && !this.isSymbol(';')) {
+                    if (this.type == IDENTIFIER || this.isSymbol('.')) {
+                        name.append(this.token);
+                    }
+                }
+                this.packageName = name.toString();
+                this.document = null;
+            } else if (this.type == IDENTIFIER && this.token.equals("import")) {
+                while (this.next() != EOF && !this.isSymbol(';')) {
+                    // Skip import declaration
+                }
+                this.document = null;
+            } else {
+                this.pushBack();
+                if (!this.parseMember(null)) {
+                    // Unbalanced close brace at top level
+                    this.document = null;
+                }
+            }
+        }
+    }
+
+    /**
+     * Parse type body, the open brace is consumed already
+     *
+     * @param owner Owner type
+     */
+    private void parseTypeBody(TypeContext owner) {
+        if (owner.enumeration) {
+            this.parseEnumConstants(owner);
+        }
+        while (this.type != EOF && this.parseMember(owner)) {
+            // Parse the members until the close brace
+        }
+        owner.complete();
+    }
+
+    /**
+     * Parse enum constants, the open brace of enum body is consumed already
+     *
+     * @param owner Enum type
+     */
+    private void parseEnumConstants(TypeContext owner) {
+        while (this.next() != EOF) {
+            String document = this.document;
+            if (this.isSymbol(';')) {
+                this.document = null;
+                return;
+            } else if (this.isSymbol('}')) {
+                this.pushBack();
+                return;
+            } else if (this.isSymbol('@')) {
+                this.skipAnnotation();
+            } else if (this.type == IDENTIFIER) {
+                owner.fields.put(this.token, parseComment(document));
+                this.document = null;
+                if (this.next() == SYMBOL && this.isSymbol('(')) {
+                    this.skipBalanced('(', ')');
+                    this.next();
+                }
+                if (this.isSymbol('{')) {
+                    this.skipBalanced('{', '}');
+                    this.next();
+                }
+                if (!this.isSymbol(',')) {
+                    this.pushBack();
+                }
+            }
+        }
+    }
+
+    /**
+     * Parse member declaration of type
+     *
+     * @param owner Owner type or null if top level
+     * @return false if the owner body is closed
+     */
+    private boolean parseMember(TypeContext owner) {
+        List<String> tokens = new ArrayList<>();
+        Map<String, String> variables = null;
+        String document = null;
+        boolean first = true;
+        while (this.next() != EOF) {
+            if (first) {
+                document = this.document;
+                this.document = null;
+                first = false;
+            }
+            if (this.isSymbol('}')) {
+                return false;
+            } else if (this.isSymbol(';')) {
+                if (owner != null && !tokens.isEmpty()) {
+                    owner.addField(tokens, document);
+                }
+                return true;
+            } else if (this.isSymbol('@')) {
+                if (this.next() == IDENTIFIER && this.token.equals("interface")) {
+                    this.parseType(owner, document, false);
+                    return true;
+                }
+                this.pushBack();
+                this.skipAnnotation();
+            } else if (this.type == IDENTIFIER && (this.token.equals("class") || this.token.equals("interface")
+                    || this.token.equals("enum"))) {
+                this.parseType(owner, document, this.token.equals("enum"));
+                return true;
+            } else if (this.isSymbol('{')) {
+                this.skipBalanced('{', '}');
+                return true;
+            } else if (this.isSymbol('(')) {
+                this.parseMethod(owner, tokens, variables, document);
+                return true;
+            } else if (this.isSymbol('=')) {
+                this.parseFieldInitializers(owner, tokens, document);
+                return true;
+            } else if (this.isSymbol(',')) {
+                if (owner != null) {
+                    owner.addField(tokens, document);
+                }
+                String type = tokens.isEmpty() ? null : tokens.get(0);
+                tokens.clear();
+                if (type != null) {
+                    tokens.add(type);
+                }
+            } else if (this.isSymbol('<')) {
+                boolean modifiers = true;
+                for (String token : tokens) {
+                    modifiers &= MODIFIERS.contains(token) || token.equals("-");
+                }
+                List<String> angles = this.collectAngles();
+                if (modifiers) {
+                    parseVariables(angles, variables = new HashMap<>());
+                }
+            } else if (this.type != LITERAL) {
+                tokens.add(this.token);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Parse type declaration, the type keyword is consumed already
+     *
+     * @param owner       Owner type or null if top level
+     * @param document    Type document comment
+     * @param enumeration Whether the type is enum
+     */
+    private void parseType(TypeContext owner, String document, boolean enumeration) {
+        if (this.next() != IDENTIFIER) {
+            this.pushBack();
+            return;
+        }
+        String name = owner == null ? this.packageName.isEmpty() ? this.token : this.packageName + "." + this.token
+                : owner.name + "$" + this.token;
+        TypeContext type = new TypeContext(owner, name, parseComment(document), enumeration);
+        if (this.next() == SYMBOL && this.isSymbol('<')) {
+            parseVariables(this.collectAngles(), type.variables);
+        } else {
+            this.pushBack();
+        }
+        while (this.next() != EOF && !this.isSymbol('{')) {
+            if (this.isSymbol('<')) {
+                this.collectAngles();
+            } else if (this.isSymbol('@')) {
+                this.skipAnnotation();
+            } else if (this.isSymbol(';')) {
+                return;
+            }
+        }
+        this.document = null;
+        this.parseTypeBody(type);
+    }
+
+    /**
+     * Parse method declaration, the open parenthesis of parameters is consumed already
+     *
+     * @param owner     Owner type
+     * @param tokens    Declaration tokens before parameters
+     * @param variables Method type variable and erased bound name mappings
+     * @param document  Method document comment
+     */
+    private void parseMethod(TypeContext owner, List<String> tokens, Map<String, String> variables,
+                             String document) {
+        List<String> types = new ArrayList<>();
+        List<String> parameter = new ArrayList<>();
+        for (int depth = 0; this.next() != EOF; ) {
+            if (this.isSymbol('@')) {
+                this.skipAnnotation();
+                continue;
+            } else if (this.isSymbol('<')) {
+                depth++;
+            } else if (this.isSymbol('>')) {
+                depth--;
+            } else if (depth == 0 && (this.isSymbol(',') || this.isSymbol(')'))) {
+                if (!parameter.isEmpty() && owner != null) {
+                    String erasure = getErasureName(parameter, owner.getVariables(variables));
+                    if (erasure != null) {
+                        types.add(erasure);
+                    }
+                }
+                parameter.clear();
+                if (this.isSymbol(')')) {
+                    break;
+                }
+                continue;
+            }
+            if (this.type != LITERAL && !(this.type == IDENTIFIER && this.token.equals("final"))) {
+                parameter.add(this.token);
+            }
+        }
+        while (this.next() != EOF && !this.isSymbol(';')) {
+            if (this.isSymbol('{')) {
+                this.skipBalanced('{', '}');
+                break;
+            }
+        }
+        this.document = null;
+        String name = null;
+        for (int i = tokens.size() - 1; i >= 0 && name == null; i--) {
+            if (Character.isJavaIdentifierStart(tokens.get(i).charAt(0))) {
+                name = tokens.get(i);
+            }
+        }
+        if (owner != null && name != null) {
+            owner.addMethod(name, String.join(",", types), document);
+        }
+    }
+
+    /**
+     * Parse field initializers, the first equal symbol is consumed already
+     *
+     * @param owner    Owner type
+     * @param tokens   Declaration tokens before initializer
+     * @param document Field document comment
+     */
+    private void parseFieldInitializers(TypeContext owner, List<String> tokens, String document) {
+        if (owner != null) {
+            owner.addField(tokens, document);
+        }
+        for (int depth = 0; this.next() != EOF; ) {
+            if (this.isSymbol('(') || this.isSymbol('{') || this.isSymbol('[')) {
+                depth++;
+            } else if (this.isSymbol(')') || this.isSymbol('}') || this.isSymbol(']')) {
+                depth--;
+            } else if (depth == 0 && this.isSymbol(';')) {
+                break;
+            } else if (depth == 0 && this.isSymbol(',')) {
+                // The next declarator of the same field declaration
+                if (this.next() == IDENTIFIER && owner != null) {
+                    owner.fields.putIfAbsent(this.token, parseComment(document));
+                } else {
+                    this.pushBack();
+                }
+            }
+        }
+        this.document = null;
+    }
+
+    /**
+     * Type declaration context
+     */
+    private final class TypeContext {
+        /**
+         * Owner type
+         */
+        private final TypeContext owner;
+
+        /**
+         * Binary class name
+         */
+        private final String name;
+
+        /**
+         * Type comment
+         */
+        private final ParsedComment comment;
+
+        /**
+         * Whether the type is enum
+         */
+        private final boolean enumeration;
+
+        /**
+         * Type variable and erased bound name mappings
+         */
+        private final Map<String, String> variables = new HashMap<>();
+
+        /**
+         * Field name and comment mappings
+         */
+        private final Map<String, ParsedComment> fields = new HashMap<>();
+
+        /**
+         * Method signature and comment mappings
+         */
+        private final Map<String, ParsedComment> methods = new HashMap<>();
+
+        /**
+         * Method name and first method comment mappings
+         */
+        private final Map<String, ParsedComment> names = new HashMap<>();
+
+        private TypeContext(TypeContext owner, String name, ParsedComment comment, boolean enumeration) {
+            this.owner = owner;
+            this.name = name;
+            this.comment = comment;
+            this.enumeration = enumeration;
+        }
+
+        /**
+         * Get visible type variables of method
+         *
+         * @param variables Method type variable and erased bound name mappings
+         * @return Type variable and erased bound name mappings
+         */
+        private Map<String, String> getVariables(Map<String, String> variables) {
+            if (this.owner == null && (variables == null || variables.isEmpty())) {
+                return this.variables;
+            }
+            Map<String, String> visibles = new HashMap<>();
+            for (TypeContext context = this; context != null; context = context.owner) {
+                context.variables.forEach(visibles::putIfAbsent);
+            }
+            if (variables != null) {
+                visibles.putAll(variables);
+            }
+            return visibles;
+        }
+
+        /**
+         * Add field of declaration tokens
+         *
+         * @param tokens   Declaration tokens
+         * @param document Field document comment
+         */
+        private void addField(List<String> tokens, String document) {
+            for (int i = tokens.size() - 1; i >= 0; i--) {
+                String token = tokens.get(i);
+                if (Character.isJavaIdentifierStart(token.charAt(0))) {
+                    this.fields.putIfAbsent(token, parseComment(document));
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Add method comment
+         *
+         * @param name       Method name
+         * @param parameters Erased parameter type names
+         * @param document   Method document comment
+         */
+        private void addMethod(String name, String parameters, String document) {
+            ParsedComment comment = parseComment(document);
+            this.methods.putIfAbsent(name + "(" + parameters + ")", comment);
+            this.names.putIfAbsent(name, comment);
+        }
+
+        /**
+         * Complete the type and register the class comment
+         */
+        private void complete() {
+            comments.put(this.name, new ClassComment(this.name, this.comment, this.fields, this.methods,
+                    this.names));
+        }
+    }
+}
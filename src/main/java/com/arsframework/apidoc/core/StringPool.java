@@ -0,0 +1,168 @@
+package com.arsframework.apidoc.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Analysis scoped string pool which canonicalizes the strings of api and parameter, so the identical names, formats,
+ * descriptions and modes of a catalog are shared by one instance
+ *
+ * @author Woody
+ */
+public class StringPool {
+    /**
+     * Canonical strings
+     */
+    private final Map<String, String> strings = new ConcurrentHashMap<>();
+
+    /**
+     * Estimated bytes of the duplicate strings which are replaced
+     */
+    private final AtomicLong savedBytes = new AtomicLong();
+
+    /**
+     * Get estimated heap size of string
+     *
+     * @param value String value
+     * @return Heap size in bytes
+     */
+    private static long getHeapSize(String value) {
+        // String object header and fields plus char array header and chars, aligned to 8 bytes
+        return 24 + ((16 + 2L * value.length() + 7) & ~7L);
+    }
+
+    /**
+     * Get canonical string
+     *
+     * @param value String value
+     * @return Canonical string
+     */
+    public String intern(String value) {
+        if (value == null) {
+            return null;
+        }
+        String canonical = this.strings.putIfAbsent(value, value);
+        if (canonical == null) {
+            return value;
+        }
+        if (canonical != value) {
+            this.savedBytes.addAndGet(getHeapSize(value));
+        }
+        return canonical;
+    }
+
+    /**
+     * Get right-sized list of canonical strings
+     *
+     * @param values String values
+     * @return Canonical string list
+     */
+    public List<String> intern(List<String> values) {
+        if (values == null) {
+            return null;
+        }
+        List<String> canonicals = new ArrayList<>(values.size());
+        for (String value : values) {
+            canonicals.add(this.intern(value));
+        }
+        return canonicals;
+    }
+
+    /**
+     * Canonicalize the strings of parameter and its options, the fields are not canonicalized
+     *
+     * @param parameter Parameter object
+     */
+    public void canonicalize(Parameter parameter) {
+        if (parameter == null) {
+            return;
+        }
+        parameter.setName(this.intern(parameter.getName()));
+        parameter.setEntry(this.intern(parameter.getEntry()));
+        parameter.setFormat(this.intern(parameter.getFormat()));
+        parameter.setExample(this.intern(parameter.getExample()));
+        parameter.setDescription(this.intern(parameter.getDescription()));
+        parameter.setReference(this.intern(parameter.getReference()));
+        if (parameter.getDefaultValue() instanceof String) {
+            parameter.setDefaultValue(this.intern((String) parameter.getDefaultValue()));
+        }
+        if (parameter.getOptions() != null) {
+            for (Parameter.Option option : parameter.getOptions()) {
+                option.setKey(this.intern(option.getKey()));
+                option.setValue(this.intern(option.getValue()));
+            }
+        }
+    }
+
+    /**
+     * Canonicalize the strings of api
+     *
+     * @param api  Api object
+     * @param deep Whether the parameters are canonicalized recursively
+     */
+    public void canonicalize(Api api, boolean deep) {
+        if (api == null) {
+            return;
+        }
+        api.setKey(this.intern(api.getKey()));
+        api.setName(this.intern(api.getName()));
+        api.setTag(this.intern(api.getTag()));
+        api.setUri(this.intern(api.getUri()));
+        api.setMode(this.intern(api.getMode()));
+        api.setDate(this.intern(api.getDate()));
+        api.setVersion(this.intern(api.getVersion()));
+        api.setDescription(this.intern(api.getDescription()));
+        api.setAuthors(this.intern(api.getAuthors()));
+        api.setMethods(this.intern(api.getMethods()));
+        if (deep) {
+            this.canonicalize(api.getParameters());
+            if (api.getReturned() != null) {
+                this.canonicalize(api.getReturned().getFields());
+                this.canonicalize(api.getReturned());
+            }
+        }
+    }
+
+    /**
+     * Canonicalize the strings of parameters recursively
+     *
+     * @param parameters Parameter list
+     */
+    private void canonicalize(List<Parameter> parameters) {
+        if (parameters != null) {
+            for (Parameter parameter : parameters) {
+                this.canonicalize(parameter.getFields());
+                this.canonicalize(parameter);
+            }
+        }
+    }
+
+    /**
+     * Get canonical string size
+     *
+     * @return Canonical string size
+     */
+    public int getSize() {
+        return this.strings.size();
+    }
+
+    /**
+     * Get estimated bytes of the duplicate strings which are replaced
+     *
+     * @return Saved bytes
+     */
+    public long getSavedBytes() {
+        return this.savedBytes.get();
+    }
+
+    /**
+     * Clear canonical strings and statistics
+     */
+    public void clear() {
+        this.strings.clear();
+        this.savedBytes.set(0);
+    }
+}
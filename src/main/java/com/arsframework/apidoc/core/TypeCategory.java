@@ -0,0 +1,267 @@
+package com.arsframework.apidoc.core;
+
+import java.io.File;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TimeZone;
+
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * Type category of class which is computed once per class
+ *
+ * @author Woody
+ */
+public final class TypeCategory {
+    /**
+     * Class and type category mappings
+     */
+    private static final ClassValue<TypeCategory> CATEGORIES = new ClassValue<TypeCategory>() {
+        @Override
+        protected TypeCategory computeValue(Class<?> type) {
+            return new TypeCategory(type);
+        }
+    };
+
+    /**
+     * Custom class and parameter type mappings
+     */
+    private static volatile Map<Class<?>, Class<?>> customs = new LinkedHashMap<>();
+
+    /**
+     * Custom mappings version
+     */
+    private static volatile int version;
+
+    /**
+     * Custom mappings version of category
+     */
+    private final int categoryVersion;
+
+    /**
+     * Whether the class is basic
+     */
+    private final boolean basic;
+
+    /**
+     * Whether the class is int type
+     */
+    private final boolean intType;
+
+    /**
+     * Whether the class is float type
+     */
+    private final boolean floatType;
+
+    /**
+     * Whether the class is date type
+     */
+    private final boolean date;
+
+    /**
+     * Whether the class is stream type
+     */
+    private final boolean stream;
+
+    /**
+     * Whether the class is meta type
+     */
+    private final boolean meta;
+
+    /**
+     * Parameter type
+     */
+    private final Class<?> type;
+
+    private TypeCategory(Class<?> clazz) {
+        this.categoryVersion = version;
+        this.basic = clazz.isPrimitive() || clazz == Byte.class || clazz == Character.class
+                || clazz == Integer.class || clazz == Short.class || clazz == Long.class || clazz == Float.class
+                || clazz == Double.class || clazz == Boolean.class || clazz == Void.class;
+        this.intType = clazz == byte.class || clazz == Byte.class || clazz == short.class || clazz == Short.class
+                || clazz == int.class || clazz == Integer.class || clazz == long.class || clazz == Long.class
+                || BigInteger.class.isAssignableFrom(clazz);
+        this.floatType = clazz == float.class || clazz == Float.class || clazz == double.class
+                || clazz == Double.class || BigDecimal.class.isAssignableFrom(clazz);
+        this.date = Date.class.isAssignableFrom(clazz) || LocalDate.class.isAssignableFrom(clazz)
+                || LocalDateTime.class.isAssignableFrom(clazz);
+        this.stream = File.class.isAssignableFrom(clazz) || MultipartFile.class.isAssignableFrom(clazz)
+                || Reader.class.isAssignableFrom(clazz) || InputStream.class.isAssignableFrom(clazz)
+                || InputStreamSource.class.isAssignableFrom(clazz) || Writer.class.isAssignableFrom(clazz)
+                || OutputStream.class.isAssignableFrom(clazz);
+        Class<?> custom = null;
+        for (Map.Entry<Class<?>, Class<?>> entry : customs.entrySet()) {
+            if (entry.getKey().isAssignableFrom(clazz)) {
+                custom = entry.getValue();
+                break;
+            }
+        }
+        this.meta = custom != null || this.basic || this.date || this.stream || clazz == Object.class
+                || Map.class.isAssignableFrom(clazz) || Enum.class.isAssignableFrom(clazz)
+                || Number.class.isAssignableFrom(clazz) || clazz == Locale.class
+                || TimeZone.class.isAssignableFrom(clazz) || CharSequence.class.isAssignableFrom(clazz);
+        this.type = custom == null ? getType(clazz) : custom;
+    }
+
+    /**
+     * Get parameter type by class
+     *
+     * @param clazz Class object
+     * @return Parameter type class
+     */
+    private static Class<?> getType(Class<?> clazz) {
+        if (clazz == byte.class || clazz == Byte.class) {
+            return Byte.class;
+        } else if (clazz == char.class || clazz == Character.class) {
+            return Character.class;
+        } else if (clazz == int.class || clazz == Integer.class) {
+            return Integer.class;
+        } else if (clazz == short.class || clazz == Short.class) {
+            return Short.class;
+        } else if (clazz == long.class || clazz == Long.class || BigInteger.class.isAssignableFrom(clazz)) {
+            return Long.class;
+        } else if (clazz == float.class || clazz == Float.class) {
+            return Float.class;
+        } else if (clazz == double.class || clazz == Double.class || BigDecimal.class.isAssignableFrom(clazz)) {
+            return Double.class;
+        } else if (clazz == boolean.class || clazz == Boolean.class) {
+            return Boolean.class;
+        } else if (clazz == Locale.class || TimeZone.class.isAssignableFrom(clazz) ||
+                Enum.class.isAssignableFrom(clazz) || CharSequence.class.isAssignableFrom(clazz)) {
+            return String.class;
+        } else if (Date.class.isAssignableFrom(clazz) || LocalDate.class.isAssignableFrom(clazz)
+                || LocalDateTime.class.isAssignableFrom(clazz)) {
+            return Date.class;
+        } else if (File.class.isAssignableFrom(clazz) || MultipartFile.class.isAssignableFrom(clazz)) {
+            return File.class;
+        } else if (Reader.class.isAssignableFrom(clazz) || InputStream.class.isAssignableFrom(clazz)
+                || InputStreamSource.class.isAssignableFrom(clazz)) {
+            return Reader.class;
+        } else if (Writer.class.isAssignableFrom(clazz) || OutputStream.class.isAssignableFrom(clazz)) {
+            return Writer.class;
+        }
+        return Object.class;
+    }
+
+    /**
+     * Get type category of class
+     *
+     * @param clazz Class object
+     * @return Type category
+     */
+    public static TypeCategory of(Class<?> clazz) {
+        Objects.requireNonNull(clazz, "clazz not specified");
+        TypeCategory category = CATEGORIES.get(clazz);
+        if (category.categoryVersion != version) {
+            CATEGORIES.remove(clazz);
+            category = CATEGORIES.get(clazz);
+        }
+        return category;
+    }
+
+    /**
+     * Register custom meta class, the class and its subclasses are treated as meta class with the parameter type,
+     * it should be registered before analysis because the analysis results are cached
+     *
+     * @param clazz Custom class
+     * @param type  Parameter type
+     */
+    public static synchronized void register(Class<?> clazz, Class<?> type) {
+        Objects.requireNonNull(clazz, "clazz not specified");
+        Objects.requireNonNull(type, "type not specified");
+        Map<Class<?>, Class<?>> mappings = new LinkedHashMap<>(customs);
+        mappings.put(clazz, type);
+        customs = mappings;
+        version++;
+    }
+
+    /**
+     * Unregister custom meta class
+     *
+     * @param clazz Custom class
+     */
+    public static synchronized void unregister(Class<?> clazz) {
+        Objects.requireNonNull(clazz, "clazz not specified");
+        if (customs.containsKey(clazz)) {
+            Map<Class<?>, Class<?>> mappings = new LinkedHashMap<>(customs);
+            mappings.remove(clazz);
+            customs = mappings;
+            version++;
+        }
+    }
+
+    /**
+     * Judge whether the class is basic
+     *
+     * @return true/false
+     */
+    public boolean isBasic() {
+        return this.basic;
+    }
+
+    /**
+     * Judge whether the class is int type
+     *
+     * @return true/false
+     */
+    public boolean isInt() {
+        return this.intType;
+    }
+
+    /**
+     * Judge whether the class is float type
+     *
+     * @return true/false
+     */
+    public boolean isFloat() {
+        return this.floatType;
+    }
+
+    /**
+     * Judge whether the class is date type
+     *
+     * @return true/false
+     */
+    public boolean isDate() {
+        return this.date;
+    }
+
+    /**
+     * Judge whether the class is stream type
+     *
+     * @return true/false
+     */
+    public boolean isStream() {
+        return this.stream;
+    }
+
+    /**
+     * Judge whether the class is meta type
+     *
+     * @return true/false
+     */
+    public boolean isMeta() {
+        return this.meta;
+    }
+
+    /**
+     * Get parameter type
+     *
+     * @return Parameter type class
+     */
+    public Class<?> getType() {
+        return this.type;
+    }
+}
@@ -0,0 +1,122 @@
+package com.arsframework.apidoc.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Shared type definitions of api parameters, the expanded fields of parameter are registered once by the original
+ * class and replaced with the definition reference, the different field structures of the same class (e.g. generic
+ * class with different type bindings) are registered as separate definitions with numeric suffix
+ *
+ * @author Woody
+ */
+public class TypeDefinitions {
+    /**
+     * Definition reference and fields mappings
+     */
+    private final Map<String, List<Parameter>> definitions = new LinkedHashMap<>();
+
+    /**
+     * Definition fields and reference mappings
+     */
+    private final Map<List<Parameter>, String> references = new HashMap<>();
+
+    /**
+     * Definition name and count mappings
+     */
+    private final Map<String, Integer> counts = new HashMap<>();
+
+    /**
+     * Reduce api with shared type definitions, the given api is not modified
+     *
+     * @param api Api object
+     * @return Api object which parameters refer to type definitions
+     */
+    public synchronized Api reduce(Api api) {
+        Objects.requireNonNull(api, "api not specified");
+        return api.toBuilder().parameters(this.reduce(api.getParameters()))
+                .returned(this.reduce(api.getReturned())).build();
+    }
+
+    /**
+     * Reduce parameters with shared type definitions
+     *
+     * @param parameters Parameter objects
+     * @return Parameter objects which refer to type definitions
+     */
+    private List<Parameter> reduce(List<Parameter> parameters) {
+        if (parameters == null) {
+            return null;
+        }
+        List<Parameter> reduces = new ArrayList<>(parameters.size());
+        for (Parameter parameter : parameters) {
+            reduces.add(this.reduce(parameter));
+        }
+        return reduces;
+    }
+
+    /**
+     * Reduce parameter with shared type definitions
+     *
+     * @param parameter Parameter object
+     * @return Parameter object which refers to type definition
+     */
+    private Parameter reduce(Parameter parameter) {
+        if (parameter == null || parameter.getFields() == null || parameter.getFields().isEmpty()) {
+            return parameter;
+        }
+        List<Parameter> fields = Collections.unmodifiableList(this.reduce(parameter.getFields()));
+        String reference = this.references.get(fields);
+        if (reference == null) {
+            Class<?> original = parameter.getOriginal() == null ? parameter.getType() : parameter.getOriginal();
+            String name = original == null ? Object.class.getName() : original.getName();
+            int count = this.counts.merge(name, 1, Integer::sum);
+            reference = count == 1 ? name : name + "#" + count;
+            this.references.put(fields, reference);
+            this.definitions.put(reference, fields);
+        }
+        return parameter.toBuilder().fields(null).reference(reference).build();
+    }
+
+    /**
+     * Get type definition fields
+     *
+     * @param reference Definition reference
+     * @return Parameter fields or null if not defined
+     */
+    public synchronized List<Parameter> getDefinition(String reference) {
+        return this.definitions.get(reference);
+    }
+
+    /**
+     * Get type definitions
+     *
+     * @return Definition reference and fields mappings
+     */
+    public synchronized Map<String, List<Parameter>> getDefinitions() {
+        return Collections.unmodifiableMap(new LinkedHashMap<>(this.definitions));
+    }
+
+    /**
+     * Get type definition size
+     *
+     * @return Type definition size
+     */
+    public synchronized int size() {
+        return this.definitions.size();
+    }
+
+    /**
+     * Clear type definitions
+     */
+    public synchronized void clear() {
+        this.definitions.clear();
+        this.references.clear();
+        this.counts.clear();
+    }
+}
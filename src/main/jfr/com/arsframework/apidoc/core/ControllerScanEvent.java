@@ -0,0 +1,67 @@
+package com.arsframework.apidoc.core;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event of controller scanning
+ *
+ * @author Woody
+ */
+@Name("com.arsframework.apidoc.ControllerScan")
+@Label("Controller Scan")
+@Category("Apidoc")
+@Description("Scan apis of controller")
+@StackTrace(false)
+final class ControllerScanEvent extends Event {
+    /**
+     * Controller class name
+     */
+    @Label("Controller")
+    String controller;
+
+    /**
+     * Api count
+     */
+    @Label("Apis")
+    int apis;
+
+    /**
+     * Whether the apis are loaded from persistent api cache
+     */
+    @Label("Cached")
+    boolean cached;
+
+    /**
+     * Begin event
+     *
+     * @param controller Controller class
+     * @return Event object
+     */
+    static Object start(Class<?> controller) {
+        ControllerScanEvent event = new ControllerScanEvent();
+        if (event.isEnabled()) {
+            event.controller = controller.getName();
+            event.begin();
+        }
+        return event;
+    }
+
+    /**
+     * Commit event
+     *
+     * @param apis   Api count
+     * @param cached Whether the apis are loaded from persistent api cache
+     */
+    void finish(int apis, boolean cached) {
+        if (this.isEnabled()) {
+            this.apis = apis;
+            this.cached = cached;
+            this.commit();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.arsframework.apidoc.core;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event of class document loading by document provider
+ *
+ * @author Woody
+ */
+@Name("com.arsframework.apidoc.DocumentLoad")
+@Label("Document Load")
+@Category("Apidoc")
+@Description("Load class document with document provider")
+@StackTrace(false)
+final class DocumentLoadEvent extends Event {
+    /**
+     * Documented class name
+     */
+    @Label("Class")
+    String type;
+
+    /**
+     * Whether the document is found
+     */
+    @Label("Found")
+    boolean found;
+
+    /**
+     * Begin event
+     *
+     * @param type Documented class
+     * @return Event object
+     */
+    static Object start(Class<?> type) {
+        DocumentLoadEvent event = new DocumentLoadEvent();
+        if (event.isEnabled()) {
+            event.type = type.getName();
+            event.begin();
+        }
+        return event;
+    }
+
+    /**
+     * Commit event
+     *
+     * @param found Whether the document is found
+     */
+    void finish(boolean found) {
+        if (this.isEnabled()) {
+            this.found = found;
+            this.commit();
+        }
+    }
+}
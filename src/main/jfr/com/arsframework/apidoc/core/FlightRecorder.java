@@ -0,0 +1,61 @@
+package com.arsframework.apidoc.core;
+
+import java.lang.reflect.Method;
+
+/**
+ * Flight recorder implementation of analysis event recorder, the class is compiled only with the flight recorder api
+ * and is loaded reflectively by {@link AnalysisEvents}
+ *
+ * @author Woody
+ */
+final class FlightRecorder implements AnalysisEvents.Recorder {
+    @Override
+    public Object beginScan(Class<?> controller) {
+        return ControllerScanEvent.start(controller);
+    }
+
+    @Override
+    public void commitScan(Object event, int apis, boolean cached) {
+        ((ControllerScanEvent) event).finish(apis, cached);
+    }
+
+    @Override
+    public Object beginParse(Method method) {
+        return MethodParseEvent.start(method);
+    }
+
+    @Override
+    public void commitParse(Object event, int nodes, boolean truncated) {
+        ((MethodParseEvent) event).finish(nodes, truncated);
+    }
+
+    @Override
+    public Object beginExpansion(Class<?> type, int depth) {
+        return TypeExpansionEvent.start(type, depth);
+    }
+
+    @Override
+    public void commitExpansion(Object event, int fields) {
+        ((TypeExpansionEvent) event).finish(fields);
+    }
+
+    @Override
+    public Object beginDocument(Class<?> type) {
+        return DocumentLoadEvent.start(type);
+    }
+
+    @Override
+    public void commitDocument(Object event, boolean found) {
+        ((DocumentLoadEvent) event).finish(found);
+    }
+
+    @Override
+    public Object beginInstantiation(Class<?> type) {
+        return InstantiationEvent.start(type);
+    }
+
+    @Override
+    public void commitInstantiation(Object event, boolean created) {
+        ((InstantiationEvent) event).finish(created);
+    }
+}
@@ -0,0 +1,59 @@
+package com.arsframework.apidoc.core;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event of class instance creation
+ *
+ * @author Woody
+ */
+@Name("com.arsframework.apidoc.Instantiation")
+@Label("Instantiation")
+@Category("Apidoc")
+@Description("Create class instance for default values")
+@StackTrace(false)
+final class InstantiationEvent extends Event {
+    /**
+     * Instantiated class name
+     */
+    @Label("Class")
+    String type;
+
+    /**
+     * Whether the instance is created
+     */
+    @Label("Created")
+    boolean created;
+
+    /**
+     * Begin event
+     *
+     * @param type Instantiated class
+     * @return Event object
+     */
+    static Object start(Class<?> type) {
+        InstantiationEvent event = new InstantiationEvent();
+        if (event.isEnabled()) {
+            event.type = type.getName();
+            event.begin();
+        }
+        return event;
+    }
+
+    /**
+     * Commit event
+     *
+     * @param created Whether the instance is created
+     */
+    void finish(boolean created) {
+        if (this.isEnabled()) {
+            this.created = created;
+            this.commit();
+        }
+    }
+}
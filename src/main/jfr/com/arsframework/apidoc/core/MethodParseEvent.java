@@ -0,0 +1,69 @@
+package com.arsframework.apidoc.core;
+
+import java.lang.reflect.Method;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event of api method parsing
+ *
+ * @author Woody
+ */
+@Name("com.arsframework.apidoc.MethodParse")
+@Label("Method Parse")
+@Category("Apidoc")
+@Description("Parse api method")
+@StackTrace(false)
+final class MethodParseEvent extends Event {
+    /**
+     * Api method name
+     */
+    @Label("Method")
+    String method;
+
+    /**
+     * Expanded parameter node count
+     */
+    @Label("Nodes")
+    int nodes;
+
+    /**
+     * Whether the api is partial because the analysis budget is exhausted
+     */
+    @Label("Truncated")
+    boolean truncated;
+
+    /**
+     * Begin event
+     *
+     * @param method Api method
+     * @return Event object
+     */
+    static Object start(Method method) {
+        MethodParseEvent event = new MethodParseEvent();
+        if (event.isEnabled()) {
+            event.method = method.getDeclaringClass().getName() + "." + method.getName();
+            event.begin();
+        }
+        return event;
+    }
+
+    /**
+     * Commit event
+     *
+     * @param nodes     Expanded parameter node count
+     * @param truncated Whether the api is partial
+     */
+    void finish(int nodes, boolean truncated) {
+        if (this.isEnabled()) {
+            this.nodes = nodes;
+            this.truncated = truncated;
+            this.commit();
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.arsframework.apidoc.core;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event of parameter fields expansion of type
+ *
+ * @author Woody
+ */
+@Name("com.arsframework.apidoc.TypeExpansion")
+@Label("Type Expansion")
+@Category("Apidoc")
+@Description("Expand the fields of type to parameters")
+@StackTrace(false)
+final class TypeExpansionEvent extends Event {
+    /**
+     * Expanded class name
+     */
+    @Label("Type")
+    String type;
+
+    /**
+     * Expansion depth
+     */
+    @Label("Depth")
+    int depth;
+
+    /**
+     * Expanded field parameter count
+     */
+    @Label("Fields")
+    int fields;
+
+    /**
+     * Begin event
+     *
+     * @param type  Expanded class
+     * @param depth Expansion depth
+     * @return Event object
+     */
+    static Object start(Class<?> type, int depth) {
+        TypeExpansionEvent event = new TypeExpansionEvent();
+        if (event.isEnabled()) {
+            event.type = type.getName();
+            event.depth = depth;
+            event.begin();
+        }
+        return event;
+    }
+
+    /**
+     * Commit event
+     *
+     * @param fields Expanded field parameter count
+     */
+    void finish(int fields) {
+        if (this.isEnabled()) {
+            this.fields = fields;
+            this.commit();
+        }
+    }
+}
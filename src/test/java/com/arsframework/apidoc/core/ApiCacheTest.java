@@ -0,0 +1,147 @@
+package com.arsframework.apidoc.core;
+
+import java.io.File;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.function.Function;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Api cache tests
+ *
+ * @author Woody
+ */
+public class ApiCacheTest {
+    /**
+     * Value kind
+     */
+    public enum Kind {
+        FIRST, SECOND
+    }
+
+    /**
+     * Model with typed default values
+     */
+    public static class Defaults {
+        public Date date = new Date(1500000000000L);
+        public Kind kind = Kind.SECOND;
+        public BigDecimal amount = new BigDecimal("1.50");
+        public Long total = 5L;
+        public Character flag = 'y';
+        public int[] numbers = {1, 2};
+        public String name = "name";
+    }
+
+    /**
+     * Defaults controller
+     */
+    @RestController
+    public static class DefaultsController {
+        @GetMapping("/defaults")
+        public Defaults defaults(Defaults defaults) {
+            return null;
+        }
+    }
+
+    /**
+     * Build analysis context
+     *
+     * @param documentProvider Document provider function
+     * @return Analysis context
+     */
+    private static AnalysisContext buildContext(Function<Class<?>, ClassComment> documentProvider) {
+        return AnalysisContext.builder().configuration(Configuration.builder().build())
+                .documentProvider(documentProvider).includeGroupIdentities(Collections.singleton("com.arsframework"))
+                .build();
+    }
+
+    /**
+     * Scan apis of defaults controller with api cache
+     *
+     * @param context Analysis context
+     * @param cache   Api cache
+     * @return Api list
+     */
+    private static List<Api> scan(AnalysisContext context, ApiCache cache) {
+        ApiScanner scanner = new ApiScanner(context, Collections.singletonList(DefaultsController.class));
+        scanner.setCache(cache);
+        return scanner.scan();
+    }
+
+    /**
+     * Get document provider which provides the class comment of defaults controller
+     *
+     * @param comment Class comment text
+     * @return Document provider function
+     */
+    private static Function<Class<?>, ClassComment> getDocumentProvider(String comment) {
+        return clazz -> clazz != DefaultsController.class ? null : new ClassComment(clazz.getName(),
+                ParsedComment.parse(comment, comment), Collections.emptyMap(), Collections.emptyMap(),
+                Collections.emptyMap());
+    }
+
+    @Test
+    public void testCommentChange() throws IOException {
+        File directory = Files.createTempDirectory("apidoc-cache").toFile();
+        Assert.assertEquals("Defaults", scan(buildContext(getDocumentProvider("Defaults")),
+                new ApiCache(directory, null)).get(0).getTag());
+
+        ApiCache cache = new ApiCache(directory, null);
+        Assert.assertEquals("Defaults", scan(buildContext(getDocumentProvider("Defaults")), cache).get(0).getTag());
+        Assert.assertEquals(1, cache.getHits());
+
+        cache = new ApiCache(directory, null);
+        Assert.assertEquals("Values", scan(buildContext(getDocumentProvider("Values")), cache).get(0).getTag());
+        Assert.assertEquals(0, cache.getHits());
+        Assert.assertEquals(1, cache.getMisses());
+    }
+
+    @Test
+    public void testHashReset() throws IOException {
+        File directory = Files.createTempDirectory("apidoc-cache").toFile();
+        ApiCache cache = new ApiCache(directory, null);
+        AnalysisContext context = buildContext(getDocumentProvider("Defaults"));
+        scan(context, cache);
+        scan(context, cache);
+        Assert.assertEquals(1, cache.getHits());
+
+        Assert.assertEquals("Values", scan(buildContext(getDocumentProvider("Values")), cache).get(0).getTag());
+        Assert.assertEquals(1, cache.getHits());
+    }
+
+    @Test
+    public void testDefaultValueTypes() throws IOException {
+        AnalysisContext context = AnalysisContext.builder().configuration(Configuration.builder().build())
+                .documentProvider(clazz -> null).includeGroupIdentities(Collections.singleton("com.arsframework"))
+                .build();
+        ApiCache cache = new ApiCache(Files.createTempDirectory("apidoc-cache").toFile(), null);
+        ApiScanner scanner = new ApiScanner(context, Collections.singletonList(DefaultsController.class));
+        scanner.setCache(cache);
+        List<Api> analysed = scanner.scan();
+        List<Api> loaded = scanner.scan();
+        Assert.assertEquals(1, cache.getHits());
+
+        List<Parameter> expected = analysed.get(0).getParameters();
+        List<Parameter> actual = loaded.get(0).getParameters();
+        Assert.assertEquals(7, actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            Object value = expected.get(i).getDefaultValue();
+            Object restored = actual.get(i).getDefaultValue();
+            Assert.assertEquals(value.getClass(), restored.getClass());
+            if (value instanceof int[]) {
+                Assert.assertTrue(Arrays.equals((int[]) value, (int[]) restored));
+            } else {
+                Assert.assertEquals(value, restored);
+            }
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.arsframework.apidoc.core;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Api catalog tests
+ *
+ * @author Woody
+ */
+public class ApiCatalogTest {
+    /**
+     * Model of tests
+     */
+    private static class Model {
+    }
+
+    /**
+     * Build api, the parameter field is not written to catalog and the integral default value is read as long
+     *
+     * @param key Api key
+     * @param tag Api tag
+     * @return Api object
+     */
+    private static Api buildApi(String key, String tag) {
+        Parameter name = Parameter.builder().input(true).type(String.class).original(String.class).name("name")
+                .size(Parameter.Size.builder().min(1D).build()).entry("query").format("text").example("woody")
+                .required(true).deprecated(true).defaultValue("anonymous").description("名称")
+                .options(Arrays.asList(Parameter.Option.builder().key("A").value("Alpha").build(),
+                        Parameter.Option.builder().key("B").value("Beta").deprecated(true).build())).build();
+        Parameter count = Parameter.builder().type(long.class).name("count").multiple(true).defaultValue(10L)
+                .size(Parameter.Size.builder().max(100D).build()).build();
+        Parameter ratio = Parameter.builder().type(Double.class).name("ratio").defaultValue(0.5D).build();
+        Parameter enabled = Parameter.builder().type(Boolean.class).name("enabled").defaultValue(true).build();
+        Parameter returned = Parameter.builder().type(Model.class).original(Model.class).name("/")
+                .fields(Arrays.asList(name, count)).reference(Model.class.getName()).truncated(true).build();
+        return Api.builder().key(key).name("Query " + key).tag(tag).uri("/model/" + key).mode("application/json")
+                .date("2020-01-01").version("1.0").description("Query models").deprecated(true)
+                .authors(Arrays.asList("Woody", null)).methods(Collections.singletonList("GET"))
+                .parameters(Arrays.asList(name, count, ratio, enabled)).returned(returned).truncated(true).build();
+    }
+
+    /**
+     * Write apis to catalog file
+     *
+     * @param apis Api objects
+     * @return Catalog file
+     * @throws Exception Exception
+     */
+    private static File write(List<Api> apis) throws Exception {
+        File file = File.createTempFile("apidoc-catalog", ".bin");
+        file.deleteOnExit();
+        try (ApiCatalogWriter writer = new ApiCatalogWriter(file)) {
+            apis.forEach(writer);
+        }
+        return file;
+    }
+
+    @Test
+    public void testRoundTrip() throws Exception {
+        Api second = buildApi("second", "model");
+        Api first = buildApi("first", "model");
+        Api other = Api.builder().key("other").build();
+        try (ApiCatalog catalog = new ApiCatalog(write(Arrays.asList(second, first, other)))) {
+            Assert.assertEquals(3, catalog.size());
+            Assert.assertEquals(first, catalog.getApi(0));
+            Assert.assertEquals(other, catalog.getApi(1));
+            Assert.assertEquals(second, catalog.getApi(2));
+            Assert.assertEquals(first, catalog.getApi("first"));
+            Assert.assertEquals(second, catalog.getApi("second"));
+            Assert.assertNull(catalog.getApi("third"));
+            Assert.assertEquals(Arrays.asList("model", null), catalog.getTags());
+            Assert.assertEquals(Arrays.asList(first, second), catalog.getApis("model"));
+            Assert.assertEquals(Collections.singletonList(other), catalog.getApis(null));
+            Assert.assertTrue(catalog.getApis("unknown").isEmpty());
+        }
+    }
+
+    @Test
+    public void testEmptyCatalog() throws Exception {
+        try (ApiCatalog catalog = new ApiCatalog(write(Collections.emptyList()))) {
+            Assert.assertEquals(0, catalog.size());
+            Assert.assertNull(catalog.getApi("first"));
+            Assert.assertTrue(catalog.getTags().isEmpty());
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.arsframework.apidoc.core;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Api scanner tests
+ *
+ * @author Woody
+ */
+public class ApiScannerTest {
+    /**
+     * Sample class
+     */
+    public static class Sample {
+    }
+
+    /**
+     * Sample controller
+     */
+    @RestController
+    public static class SampleController {
+        @GetMapping("/first")
+        public String first() {
+            return null;
+        }
+
+        @GetMapping("/second")
+        public String second() {
+            return null;
+        }
+    }
+
+    @Test
+    public void testLookupDirectoryWithPlus() throws IOException {
+        String path = Sample.class.getName().replace('.', '/') + ".class";
+        File directory = Files.createTempDirectory("apidoc+classes").toFile();
+        File file = new File(directory, path);
+        file.getParentFile().mkdirs();
+        try (InputStream input = Sample.class.getClassLoader().getResourceAsStream(path)) {
+            Files.copy(input, file.toPath());
+        }
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{directory.toURI().toURL()}, null)) {
+            List<Class<?>> classes = ApiScanner.lookupClasses(loader, Sample.class.getPackage().getName());
+            Assert.assertEquals(1, classes.size());
+            Assert.assertEquals(Sample.class.getName(), classes.get(0).getName());
+            Assert.assertSame(loader, classes.get(0).getClassLoader());
+        }
+    }
+
+    @Test
+    public void testStreamingApis() {
+        AnalysisContext context = AnalysisContext.builder().configuration(Configuration.builder().build())
+                .includeGroupIdentities(Collections.singleton("com.arsframework")).build();
+        ApiScanner scanner = new ApiScanner(context, Collections.singletonList(SampleController.class));
+        CountDownLatch consumed = new CountDownLatch(1);
+        scanner.setFactory(method -> new MethodAnalyser(method) {
+            @Override
+            public Api parse() {
+                if (method.getName().equals("second")) {
+                    try {
+                        Assert.assertTrue(consumed.await(5, TimeUnit.SECONDS));
+                    } catch (InterruptedException e) {
+                        throw new IllegalStateException(e);
+                    }
+                }
+                return super.parse();
+            }
+        });
+        List<String> names = new ArrayList<>();
+        scanner.scan(api -> {
+            names.add(api.getName());
+            consumed.countDown();
+        });
+        Assert.assertEquals(2, names.size());
+        Assert.assertEquals("first", names.get(0));
+        Assert.assertEquals("second", names.get(1));
+    }
+}
@@ -0,0 +1,94 @@
+package com.arsframework.apidoc.core;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Api writer tests
+ *
+ * @author Woody
+ */
+public class ApiWriterTest {
+    /**
+     * Baseline object mapper which skips the parameter field
+     */
+    private static final ObjectMapper MAPPER = new ObjectMapper().addMixIn(Parameter.class, ParameterMixin.class);
+
+    /**
+     * Parameter mixin of baseline object mapper
+     */
+    private abstract static class ParameterMixin {
+        @JsonIgnore
+        abstract Field getField();
+    }
+
+    /**
+     * Model of tests
+     */
+    private static class Model {
+        /**
+         * Model name
+         */
+        private String name;
+    }
+
+    /**
+     * Build api
+     *
+     * @param key Api key
+     * @return Api object
+     * @throws NoSuchFieldException No such field exception
+     */
+    private static Api buildApi(String key) throws NoSuchFieldException {
+        Parameter name = Parameter.builder().field(Model.class.getDeclaredField("name")).type(String.class)
+                .original(String.class).name("name").size(Parameter.Size.builder().min(1D).max(32D).build())
+                .entry("query").format("text").example("woody").required(true).defaultValue("anonymous")
+                .description("Model \"name\"\n").options(Arrays.asList(
+                        Parameter.Option.builder().key("A").value("Alpha").build(),
+                        Parameter.Option.builder().key("B").value("Beta").deprecated(true).build())).build();
+        Parameter count = Parameter.builder().type(Integer.class).name("count").multiple(true).defaultValue(10)
+                .build();
+        Parameter returned = Parameter.builder().type(Model.class).original(Model.class).name("/")
+                .fields(Collections.singletonList(name)).truncated(true).build();
+        return Api.builder().key(key).name("Query").tag("Model").uri("/model/" + key).mode("application/json")
+                .date("2020-01-01").version("1.0").description("Query models").deprecated(true)
+                .authors(Arrays.asList("Woody", null)).methods(Collections.singletonList("GET"))
+                .parameters(Arrays.asList(name, count)).returned(returned).truncated(true).build();
+    }
+
+    /**
+     * Write apis with api writer
+     *
+     * @param apis Api objects
+     * @return Json tree
+     * @throws IOException IO exception
+     */
+    private static JsonNode write(List<Api> apis) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (ApiWriter writer = new ApiWriter(output)) {
+            apis.forEach(writer);
+        }
+        return MAPPER.readTree(output.toByteArray());
+    }
+
+    @Test
+    public void testBaselineOutput() throws Exception {
+        List<Api> apis = Arrays.asList(buildApi("first"), buildApi("second"), new Api());
+        Assert.assertEquals(MAPPER.valueToTree(apis), write(apis));
+    }
+
+    @Test
+    public void testEmptyOutput() throws Exception {
+        Assert.assertEquals(MAPPER.valueToTree(Collections.emptyList()), write(Collections.emptyList()));
+    }
+}
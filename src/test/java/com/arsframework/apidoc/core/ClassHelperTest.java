@@ -0,0 +1,133 @@
+package com.arsframework.apidoc.core;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Class helper tests
+ *
+ * @author Woody
+ */
+public class ClassHelperTest {
+    /**
+     * Builder interface
+     */
+    public interface Builder {
+        /**
+         * Build instance
+         *
+         * @return Instance object
+         */
+        Object build();
+    }
+
+    /**
+     * Model whose builder method returns interface
+     */
+    public static class InterfaceBuilderModel {
+        private InterfaceBuilderModel() {
+        }
+
+        public static Builder builder() {
+            return InterfaceBuilderModel::new;
+        }
+    }
+
+    /**
+     * Model whose builder method returns void
+     */
+    public static class VoidBuilderModel {
+        private VoidBuilderModel() {
+        }
+
+        public static void builder() {
+        }
+    }
+
+    /**
+     * Model whose builder method returns builder without build method
+     */
+    public static class IncompleteBuilderModel {
+        private IncompleteBuilderModel() {
+        }
+
+        public static Runnable builder() {
+            return () -> {
+            };
+        }
+    }
+
+    /**
+     * Model whose constructor fails
+     */
+    public static class BrokenModel {
+        /**
+         * Model name
+         */
+        private String name = "broken";
+
+        public BrokenModel() {
+            throw new IllegalStateException("broken");
+        }
+    }
+
+    /**
+     * Model with default field value
+     */
+    public static class DefaultModel {
+        /**
+         * Model name
+         */
+        private String name = "default";
+    }
+
+    @Test
+    public void testLookupMethod() {
+        Assert.assertNotNull(ClassHelper.lookupMethod(Builder.class, "build"));
+        Assert.assertNull(ClassHelper.lookupMethod(Runnable.class, "build"));
+        Assert.assertNull(ClassHelper.lookupMethod(void.class, "build"));
+        Assert.assertNull(ClassHelper.lookupMethod(int[].class, "build"));
+    }
+
+    @Test
+    public void testBuilderInstantiation() {
+        Assert.assertEquals(ClassHelper.InstantiationStrategy.BUILDER,
+                ClassHelper.getInstantiationStrategy(InterfaceBuilderModel.class));
+        Assert.assertTrue(ClassHelper.getInstance(InterfaceBuilderModel.class) instanceof InterfaceBuilderModel);
+        Assert.assertEquals(ClassHelper.InstantiationStrategy.NONE,
+                ClassHelper.getInstantiationStrategy(VoidBuilderModel.class));
+        Assert.assertEquals(ClassHelper.InstantiationStrategy.NONE,
+                ClassHelper.getInstantiationStrategy(IncompleteBuilderModel.class));
+    }
+
+    @Test
+    public void testDefaultInstance() throws NoSuchFieldException {
+        Object instance = ClassHelper.getDefaultInstance(DefaultModel.class);
+        Assert.assertTrue(instance instanceof DefaultModel);
+        Assert.assertSame(instance, ClassHelper.getDefaultInstance(DefaultModel.class));
+        Assert.assertEquals("default", ClassHelper.getDefaultValues(DefaultModel.class)
+                .get(DefaultModel.class.getDeclaredField("name")));
+        Assert.assertNull(ClassHelper.getInstantiationFailure(DefaultModel.class));
+        Assert.assertNull(ClassHelper.getDefaultInstance(Runnable.class));
+    }
+
+    @Test
+    public void testDefaultInstanceFailure() {
+        RuntimeException failure = ClassHelper.getInstantiationFailure(BrokenModel.class);
+        Assert.assertTrue(failure instanceof IllegalStateException);
+        for (int i = 0; i < 2; i++) {
+            try {
+                ClassHelper.getDefaultInstance(BrokenModel.class);
+                Assert.fail("Instantiation failure is swallowed");
+            } catch (IllegalStateException e) {
+                Assert.assertSame(failure, e);
+            }
+        }
+        try {
+            ClassHelper.getDefaultValues(BrokenModel.class);
+            Assert.fail("Instantiation failure is swallowed");
+        } catch (IllegalStateException e) {
+            Assert.assertSame(failure, e);
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package com.arsframework.apidoc.core;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Comment index store tests
+ *
+ * @author Woody
+ */
+public class CommentIndexStoreTest {
+    /**
+     * Write index file header with source count
+     *
+     * @param output Data output
+     * @param count  Source count
+     * @throws IOException IO exception
+     */
+    private static void writeHeader(DataOutputStream output, int count) throws IOException {
+        output.writeInt(CommentIndexStore.MAGIC);
+        output.writeInt(CommentIndexStore.VERSION);
+        output.writeInt(5);
+        output.write("UTF-8".getBytes(StandardCharsets.UTF_8));
+        output.writeInt(count);
+    }
+
+    /**
+     * Write bytes to temporary index file
+     *
+     * @param bytes File bytes
+     * @return Index file
+     * @throws IOException IO exception
+     */
+    private static File write(byte[] bytes) throws IOException {
+        Path file = Files.createTempFile("apidoc-index", ".bin");
+        Files.write(file, bytes);
+        return file.toFile();
+    }
+
+    /**
+     * Assert the index file is rejected with IO exception
+     *
+     * @param bytes File bytes
+     */
+    private static void assertInvalid(byte[] bytes) {
+        try {
+            CommentIndexStore.read(write(bytes), "UTF-8");
+            Assert.fail("Invalid index file is accepted");
+        } catch (IOException e) {
+            // Expected exception
+        }
+    }
+
+    /**
+     * Write index file with one class comment which has a method name entry
+     *
+     * @param kind  Name entry kind
+     * @param value Method signature or comment text of name entry
+     * @return File bytes
+     * @throws IOException IO exception
+     */
+    private static byte[] writeNameEntry(int kind, String value) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream output = new DataOutputStream(bytes);
+        writeHeader(output, 1);
+        writeString(output, "Model.java");
+        output.writeLong(1);
+        output.writeLong(2);
+        output.writeInt(0);
+        output.writeInt(1);
+        writeString(output, "com.example.Model");
+        writeComment(output, "Model");
+        output.writeInt(0);
+        output.writeInt(1);
+        writeString(output, "get()");
+        writeComment(output, "Get");
+        output.writeInt(1);
+        writeString(output, "get");
+        output.writeByte(kind);
+        if (kind == 1) {
+            writeComment(output, value);
+        } else {
+            writeString(output, value);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Write string
+     *
+     * @param output Data output
+     * @param value  String value
+     * @throws IOException IO exception
+     */
+    private static void writeString(DataOutputStream output, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    /**
+     * Write parsed comment of single line without tags and parameters
+     *
+     * @param output Data output
+     * @param text   Comment text
+     * @throws IOException IO exception
+     */
+    private static void writeComment(DataOutputStream output, String text) throws IOException {
+        writeString(output, text);
+        output.writeInt(1);
+        writeString(output, text);
+        output.writeInt(0);
+        output.writeInt(0);
+    }
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        ParsedComment comment = ParsedComment.parse("Model\n", "Model\n@author tester");
+        ClassComment classComment = new ClassComment("com.example.Model", comment,
+                Collections.singletonMap("name", ParsedComment.parse("Name\n", "Name")),
+                Collections.emptyMap(), Collections.emptyMap());
+        CommentIndexStore.Entry entry = new CommentIndexStore.Entry(1, 2, new byte[]{3, 4},
+                Collections.singletonMap(classComment.getName(), classComment));
+        File file = Files.createTempFile("apidoc-index", ".bin").toFile();
+        CommentIndexStore.write(file, "UTF-8", Collections.singletonMap(Paths.get("Model.java"), entry));
+
+        Map<Path, CommentIndexStore.Entry> entries = CommentIndexStore.read(file, "UTF-8");
+        ClassComment loaded = entries.get(Paths.get("Model.java")).comments.get("com.example.Model");
+        Assert.assertEquals("Model", loaded.getComment().getText());
+        Assert.assertEquals(Collections.singletonList("tester"), loaded.getComment().getTags("@author"));
+        Assert.assertEquals("Name", loaded.getField("name").getText());
+        Assert.assertTrue(CommentIndexStore.read(file, "GBK").isEmpty());
+    }
+
+    @Test
+    public void testInvalidLengths() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream output = new DataOutputStream(bytes);
+        writeHeader(output, Integer.MAX_VALUE);
+        assertInvalid(bytes.toByteArray());
+
+        bytes.reset();
+        writeHeader(output, 1);
+        output.writeInt(-2);
+        assertInvalid(bytes.toByteArray());
+
+        bytes.reset();
+        writeHeader(output, 1);
+        output.writeInt(Integer.MAX_VALUE);
+        assertInvalid(bytes.toByteArray());
+
+        bytes.reset();
+        writeHeader(output, 1);
+        output.writeInt(1);
+        output.write('A');
+        output.writeLong(1);
+        output.writeLong(2);
+        output.writeInt(-1);
+        assertInvalid(bytes.toByteArray());
+
+        bytes.reset();
+        writeHeader(output, 1);
+        output.writeInt(-1);
+        output.writeLong(1);
+        output.writeLong(2);
+        output.writeInt(0);
+        output.writeInt(0);
+        assertInvalid(bytes.toByteArray());
+    }
+
+    @Test
+    public void testNameEntries() throws IOException {
+        ClassComment loaded = CommentIndexStore.read(write(writeNameEntry(0, "get()")), "UTF-8")
+                .get(Paths.get("Model.java")).comments.get("com.example.Model");
+        Assert.assertEquals("Get", loaded.getNames().get("get").getText());
+        Assert.assertSame(loaded.getMethods().get("get()"), loaded.getNames().get("get"));
+        loaded = CommentIndexStore.read(write(writeNameEntry(1, "Other")), "UTF-8")
+                .get(Paths.get("Model.java")).comments.get("com.example.Model");
+        Assert.assertEquals("Other", loaded.getNames().get("get").getText());
+
+        assertInvalid(writeNameEntry(0, "set()"));
+        assertInvalid(writeNameEntry(2, "get()"));
+    }
+}
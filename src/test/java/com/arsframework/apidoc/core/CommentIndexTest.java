@@ -0,0 +1,70 @@
+package com.arsframework.apidoc.core;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Comment index tests
+ *
+ * @author Woody
+ */
+public class CommentIndexTest {
+    /**
+     * Write source file of class to source root
+     *
+     * @param root  Source root
+     * @param clazz Class object
+     * @param lines Source lines
+     * @throws IOException IO exception
+     */
+    private static void write(Path root, Class<?> clazz, String... lines) throws IOException {
+        Path path = root.resolve(clazz.getName().replace('.', '/') + ".java");
+        Files.createDirectories(path.getParent());
+        Files.write(path, Arrays.asList(lines), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void testMissingComment() throws IOException {
+        Path root = Files.createTempDirectory("apidoc-index");
+        CommentIndex index = new CommentIndex(root.toFile());
+        Assert.assertNull(index.getClassComment(CommentIndexTest.class));
+
+        write(root, CommentIndexTest.class,
+                "package com.arsframework.apidoc.core;",
+                "/** Comment index tests */",
+                "public class CommentIndexTest {",
+                "}");
+        Assert.assertNull(index.getClassComment(CommentIndexTest.class));
+        Assert.assertEquals(0, index.size());
+
+        index.load();
+        Assert.assertEquals("Comment index tests", index.getComment(CommentIndexTest.class).getText());
+    }
+
+    @Test
+    public void testNestedClassComment() throws IOException {
+        Path root = Files.createTempDirectory("apidoc-index");
+        write(root, CommentIndexTest.class,
+                "package com.arsframework.apidoc.core;",
+                "public class CommentIndexTest {",
+                "    /** Nested */",
+                "    static class Nested {",
+                "    }",
+                "}");
+        CommentIndex index = new CommentIndex(root.toFile());
+        Assert.assertEquals("Nested", index.getComment(Nested.class).getText());
+        Assert.assertEquals(2, index.size());
+    }
+
+    /**
+     * Nested class
+     */
+    static class Nested {
+    }
+}
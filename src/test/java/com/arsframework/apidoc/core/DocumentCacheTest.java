@@ -0,0 +1,167 @@
+package com.arsframework.apidoc.core;
+
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Document cache tests
+ *
+ * @author Woody
+ */
+public class DocumentCacheTest {
+    /**
+     * Build class comment
+     *
+     * @param clazz Class object
+     * @return Class comment
+     */
+    private static ClassComment buildComment(Class<?> clazz) {
+        return new ClassComment(clazz.getName(), ParsedComment.parse(clazz.getSimpleName(), clazz.getSimpleName()),
+                Collections.emptyMap(), Collections.emptyMap(), Collections.emptyMap());
+    }
+
+    /**
+     * Await latch
+     *
+     * @param latch Count down latch
+     * @return Whether the latch is released in time
+     */
+    private static boolean await(CountDownLatch latch) {
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    @Test
+    public void testEvictionOrder() {
+        AtomicInteger loads = new AtomicInteger();
+        DocumentCache cache = new DocumentCache(clazz -> {
+            loads.incrementAndGet();
+            return buildComment(clazz);
+        }, 2);
+        cache.apply(String.class);
+        cache.apply(Integer.class);
+        cache.apply(String.class);
+        cache.apply(Long.class);
+        Assert.assertEquals(2, cache.getSize());
+        Assert.assertEquals(3, loads.get());
+
+        cache.apply(String.class);
+        Assert.assertEquals(3, loads.get());
+        cache.apply(Integer.class);
+        Assert.assertEquals(4, loads.get());
+        cache.apply(String.class);
+        Assert.assertEquals(4, loads.get());
+        cache.apply(Long.class);
+        Assert.assertEquals(5, loads.get());
+        Assert.assertEquals(3, cache.getHits());
+        Assert.assertEquals(5, cache.getMisses());
+
+        cache.evict(String.class);
+        Assert.assertEquals(1, cache.getSize());
+        cache.clear();
+        Assert.assertEquals(0, cache.getSize());
+    }
+
+    @Test
+    public void testCoalescedLoading() {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1), release = new CountDownLatch(1);
+        DocumentCache cache = new DocumentCache(clazz -> {
+            loads.incrementAndGet();
+            started.countDown();
+            await(release);
+            return buildComment(clazz);
+        });
+        CompletableFuture<ClassComment> first = CompletableFuture.supplyAsync(() -> cache.apply(String.class));
+        Assert.assertTrue(await(started));
+        CompletableFuture<ClassComment> second = CompletableFuture.supplyAsync(() -> cache.apply(String.class));
+        release.countDown();
+
+        Assert.assertSame(first.join(), second.join());
+        Assert.assertEquals(1, loads.get());
+        Assert.assertEquals(1, cache.getMisses());
+        Assert.assertEquals(1, cache.getHits());
+    }
+
+    @Test
+    public void testConcurrentLoading() {
+        CountDownLatch arrived = new CountDownLatch(2);
+        DocumentCache cache = new DocumentCache(clazz -> {
+            arrived.countDown();
+            return await(arrived) ? buildComment(clazz) : null;
+        });
+        CompletableFuture<ClassComment> first = CompletableFuture.supplyAsync(() -> cache.apply(String.class));
+        CompletableFuture<ClassComment> second = CompletableFuture.supplyAsync(() -> cache.apply(Integer.class));
+        Assert.assertNotNull(first.join());
+        Assert.assertNotNull(second.join());
+    }
+
+    /**
+     * Serial document provider which counts the concurrent invocations
+     */
+    private static class SerialProvider implements Function<Class<?>, ClassComment>, DocumentCache.Serial {
+        /**
+         * Running invocation count
+         */
+        private final AtomicInteger running = new AtomicInteger();
+
+        /**
+         * Maximum running invocation count
+         */
+        private final AtomicInteger concurrency = new AtomicInteger();
+
+        @Override
+        public ClassComment apply(Class<?> clazz) {
+            this.concurrency.accumulateAndGet(this.running.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                this.running.decrementAndGet();
+            }
+            return buildComment(clazz);
+        }
+    }
+
+    @Test
+    public void testSerialProvider() {
+        SerialProvider provider = new SerialProvider();
+        DocumentCache cache = new DocumentCache(provider);
+        CompletableFuture<ClassComment> first = CompletableFuture.supplyAsync(() -> cache.apply(String.class));
+        CompletableFuture<ClassComment> second = CompletableFuture.supplyAsync(() -> cache.apply(Integer.class));
+        Assert.assertNotNull(first.join());
+        Assert.assertNotNull(second.join());
+        Assert.assertEquals(1, provider.concurrency.get());
+    }
+
+    @Test
+    public void testFailedLoading() {
+        AtomicInteger loads = new AtomicInteger();
+        DocumentCache cache = new DocumentCache(clazz -> {
+            if (loads.incrementAndGet() == 1) {
+                throw new IllegalStateException("broken");
+            }
+            return buildComment(clazz);
+        });
+        try {
+            cache.apply(String.class);
+            Assert.fail();
+        } catch (IllegalStateException e) {
+            Assert.assertEquals("broken", e.getMessage());
+        }
+        Assert.assertNotNull(cache.apply(String.class));
+        Assert.assertEquals(2, loads.get());
+    }
+}
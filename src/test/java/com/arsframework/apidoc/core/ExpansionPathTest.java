@@ -0,0 +1,54 @@
+package com.arsframework.apidoc.core;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Expansion path tests
+ *
+ * @author Woody
+ */
+public class ExpansionPathTest {
+    @Test
+    public void testCounts() {
+        ExpansionPath path = new ExpansionPath();
+        path.push(String.class);
+        path.push(Integer.class);
+        path.push(String.class);
+        Assert.assertEquals(3, path.depth());
+        Assert.assertEquals(2, path.count(String.class));
+        Assert.assertEquals(1, path.count(Integer.class));
+        Assert.assertEquals(0, path.count(Long.class));
+        Assert.assertEquals(0, path.count(null));
+
+        Assert.assertEquals(String.class, path.pop());
+        Assert.assertEquals(1, path.count(String.class));
+        Assert.assertEquals(Integer.class, path.pop());
+        Assert.assertEquals(0, path.count(Integer.class));
+        Assert.assertEquals(String.class, path.pop());
+        Assert.assertEquals(0, path.depth());
+        try {
+            path.pop();
+            Assert.fail("Empty path is popped");
+        } catch (NoSuchElementException e) {
+            Assert.assertEquals(0, path.depth());
+        }
+    }
+
+    @Test
+    public void testCopy() {
+        ExpansionPath path = new ExpansionPath(Arrays.asList(String.class, Integer.class, String.class));
+        ExpansionPath copy = new ExpansionPath(path);
+        copy.push(Long.class);
+        Assert.assertEquals(3, path.depth());
+        Assert.assertEquals(0, path.count(Long.class));
+        Assert.assertEquals(4, copy.depth());
+        Assert.assertEquals(2, copy.count(String.class));
+        Assert.assertEquals(Arrays.asList(String.class, Integer.class, String.class, Long.class), copy.toList());
+        copy.toList().clear();
+        Assert.assertEquals(4, copy.depth());
+    }
+}
@@ -0,0 +1,73 @@
+package com.arsframework.apidoc.core;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Method analyser tests
+ *
+ * @author Woody
+ */
+public class MethodAnalyserTest {
+    /**
+     * Echo controller
+     */
+    @RestController
+    public static class EchoController {
+        @GetMapping("/echo")
+        public String echo() {
+            return null;
+        }
+    }
+
+    @Test
+    public void testClassCommentHook() throws NoSuchMethodException {
+        AtomicInteger loads = new AtomicInteger();
+        AnalysisContext context = AnalysisContext.builder().configuration(Configuration.builder().build())
+                .documentProvider(clazz -> {
+                    loads.incrementAndGet();
+                    return null;
+                }).includeGroupIdentities(Collections.singleton("com.arsframework")).build();
+        Method method = EchoController.class.getMethod("echo");
+        MethodAnalyser analyser = new MethodAnalyser(context, method) {
+            @Override
+            protected ParsedComment getClassComment() {
+                return ParsedComment.parse("Echo apis\n", "Echo apis\n@author tester\n@version 1.0");
+            }
+        };
+        Assert.assertEquals(0, loads.get());
+
+        Api api = analyser.parse();
+        Assert.assertEquals("Echo apis", api.getTag());
+        Assert.assertEquals("1.0", api.getVersion());
+        Assert.assertEquals(Collections.singletonList("tester"), api.getAuthors());
+        Assert.assertEquals("echo", api.getName());
+    }
+
+    @Test
+    public void testLegacyFactoryContext() {
+        AnalysisContext context = AnalysisContext.builder().configuration(Configuration.builder().build())
+                .includeGroupIdentities(Collections.singleton("com.arsframework")).build();
+        ApiScanner scanner = new ApiScanner(context, Collections.singletonList(EchoController.class));
+        scanner.setExecutor(command -> new Thread(command).start());
+        scanner.setFactory(method -> new MethodAnalyser(method) {
+            @Override
+            public Api parse() {
+                Assert.assertSame(context, ContextHelper.getContext());
+                return super.parse();
+            }
+        });
+
+        List<Api> apis = scanner.scan();
+        Assert.assertEquals(1, apis.size());
+        Assert.assertEquals("echo", apis.get(0).getName());
+        Assert.assertNull(ContextHelper.peekContext());
+    }
+}
@@ -0,0 +1,268 @@
+package com.arsframework.apidoc.core;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Parameter analyser tests
+ *
+ * @author Woody
+ */
+public class ParameterAnalyserTest {
+    /**
+     * Recursive node model
+     */
+    public static class Node {
+        public String name;
+        public Node child;
+        public Leaf leaf;
+    }
+
+    /**
+     * Leaf model
+     */
+    public static class Leaf {
+        public String value;
+        public Integer count;
+    }
+
+    /**
+     * Generic box model
+     *
+     * @param <T> Value type
+     */
+    public static class Box<T> {
+        public T value;
+    }
+
+    /**
+     * Model which contains box of string
+     */
+    public static class Item {
+        public String itemName;
+        public Box<String> box;
+    }
+
+    /**
+     * Model which holds item
+     */
+    public static class Holder {
+        public Item item;
+    }
+
+    /**
+     * Model which counts its instances
+     */
+    public static class Counted {
+        static int instances;
+
+        public String name;
+
+        public Counted() {
+            instances++;
+        }
+    }
+
+    /**
+     * Node controller
+     */
+    @RestController
+    public static class NodeController {
+        @PostMapping("/node")
+        public Node save(@RequestBody Node node) {
+            return null;
+        }
+
+        @PostMapping("/item")
+        public Item item() {
+            return null;
+        }
+
+        @PostMapping("/holder")
+        public Holder holder() {
+            return null;
+        }
+
+        @PostMapping("/box")
+        public Box<Item> box() {
+            return null;
+        }
+
+        @PostMapping("/count")
+        public Counted count(Leaf leaf, Node node) {
+            return null;
+        }
+    }
+
+    /**
+     * Build analysis context
+     *
+     * @param configuration Configuration object
+     * @return Analysis context
+     */
+    private static AnalysisContext buildContext(Configuration configuration) {
+        return AnalysisContext.builder().configuration(configuration).documentProvider(clazz -> null)
+                .includeGroupIdentities(Collections.singleton("com.arsframework")).build();
+    }
+
+    /**
+     * Get parameter of name
+     *
+     * @param parameters Parameter list
+     * @param name       Parameter name
+     * @return Parameter object
+     */
+    private static Parameter getParameter(List<Parameter> parameters, String name) {
+        for (Parameter parameter : parameters) {
+            if (parameter.getName().equals(name)) {
+                return parameter;
+            }
+        }
+        throw new AssertionError("Parameter not found: " + name);
+    }
+
+    @Test
+    public void testLazyExpansionBudget() throws NoSuchMethodException {
+        Method method = NodeController.class.getMethod("save", Node.class);
+        Configuration configuration = Configuration.builder().lazyExpansion(true).maxNodes(5).build();
+        ParameterAnalyser analyser = new ParameterAnalyser(buildContext(configuration), method);
+        Parameter returned = analyser.getReturned();
+        Assert.assertEquals(4, analyser.getNodeCount());
+        Assert.assertFalse(analyser.isExhausted());
+
+        Parameter child = getParameter(returned.getFields(), "child");
+        Assert.assertTrue(child.hasLazyFields());
+        List<Parameter> fields = child.getFields();
+        Assert.assertTrue(getParameter(fields, "child").isTruncated());
+        Assert.assertTrue(getParameter(fields, "leaf").hasLazyFields());
+        Assert.assertFalse(getParameter(fields, "leaf").isTruncated());
+        Assert.assertEquals(2, getParameter(fields, "leaf").getFields().size());
+
+        Assert.assertEquals(4, analyser.getNodeCount());
+        Assert.assertFalse(analyser.isExhausted());
+    }
+
+    @Test
+    public void testLazyExpansionTruncation() throws NoSuchMethodException {
+        Method method = NodeController.class.getMethod("save", Node.class);
+        Configuration configuration = Configuration.builder().lazyExpansion(true).maxDepth(2).build();
+        ParameterAnalyser analyser = new ParameterAnalyser(buildContext(configuration), method);
+        Parameter child = getParameter(analyser.getReturned().getFields(), "child");
+        Assert.assertTrue(child.hasLazyFields());
+        Assert.assertFalse(child.isTruncated());
+
+        Parameter leaf = getParameter(child.getFields(), "leaf");
+        Assert.assertFalse(leaf.hasLazyFields());
+        Assert.assertNull(leaf.getFields());
+        Assert.assertTrue(leaf.isTruncated());
+        Assert.assertFalse(analyser.isExhausted());
+    }
+
+    @Test
+    public void testLazyExpansionCopy() throws NoSuchMethodException {
+        Method method = NodeController.class.getMethod("save", Node.class);
+        Configuration configuration = Configuration.builder().lazyExpansion(true).build();
+        ParameterAnalyser analyser = new ParameterAnalyser(buildContext(configuration), method);
+        Parameter child = getParameter(analyser.getReturned().getFields(), "child");
+        Assert.assertTrue(child.hasLazyFields());
+
+        Parameter copy = child.toBuilder().build();
+        Assert.assertFalse(child.hasLazyFields());
+        Assert.assertFalse(copy.hasLazyFields());
+        Assert.assertNotNull(copy.getFields());
+        Assert.assertSame(child.getFields(), copy.getFields());
+        Assert.assertEquals(child, copy);
+    }
+
+    @Test
+    public void testExhaustedBudget() throws NoSuchMethodException {
+        Method method = NodeController.class.getMethod("count", Leaf.class, Node.class);
+        Configuration configuration = Configuration.builder().maxNodes(1).build();
+        ParameterAnalyser analyser = new ParameterAnalyser(buildContext(configuration), method);
+        List<Parameter> parameters = analyser.getParameters();
+        Assert.assertTrue(analyser.isExhausted());
+        Assert.assertEquals(2, parameters.size());
+        Assert.assertEquals("value", parameters.get(0).getName());
+        Assert.assertEquals("count", parameters.get(1).getName());
+        for (Parameter parameter : parameters) {
+            Assert.assertEquals(Leaf.class, parameter.getField().getDeclaringClass());
+        }
+
+        Parameter returned = analyser.getReturned();
+        Assert.assertTrue(returned.isTruncated());
+        Assert.assertNull(returned.getFields());
+        Assert.assertEquals(0, Counted.instances);
+    }
+
+    @Test
+    public void testSchemaCacheRecursion() throws NoSuchMethodException {
+        AnalysisContext context = buildContext(Configuration.builder().maxRecursionRepeat(0).build());
+        Parameter holder = new ParameterAnalyser(context, NodeController.class.getMethod("holder")).getReturned();
+        Parameter item = getParameter(holder.getFields(), "item");
+        Assert.assertFalse(getParameter(item.getFields(), "box").isTruncated());
+
+        Parameter box = new ParameterAnalyser(context, NodeController.class.getMethod("box")).getReturned();
+        Parameter value = getParameter(box.getFields(), "value");
+        Assert.assertTrue(getParameter(value.getFields(), "box").isTruncated());
+        Assert.assertNull(getParameter(value.getFields(), "box").getFields());
+    }
+
+    @Test
+    public void testSchemaCacheConfiguration() throws NoSuchMethodException {
+        SchemaCache cache = new SchemaCache();
+        Method method = NodeController.class.getMethod("item");
+        AnalysisContext context = buildContext(Configuration.builder().build()).toBuilder().schemaCache(cache).build();
+        Parameter item = new ParameterAnalyser(context, method).getReturned();
+        Assert.assertEquals("itemName", item.getFields().get(0).getName());
+
+        Configuration configuration = Configuration.builder().enableSnakeUnderlineConversion(true).build();
+        context = buildContext(configuration).toBuilder().schemaCache(cache).build();
+        item = new ParameterAnalyser(context, method).getReturned();
+        Assert.assertEquals("item_name", item.getFields().get(0).getName());
+
+        context = buildContext(Configuration.builder().enableSnakeUnderlineConversion(true).build()).toBuilder()
+                .schemaCache(cache).build();
+        long hits = cache.getHits();
+        new ParameterAnalyser(context, method).getReturned();
+        Assert.assertEquals(hits + 1, cache.getHits());
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    public void testDeprecatedOverrides() throws NoSuchMethodException {
+        Method method = NodeController.class.getMethod("save", Node.class);
+        ParameterAnalyser analyser = new ParameterAnalyser(buildContext(Configuration.builder().build()), method) {
+            @Override
+            protected boolean isRecursion(LinkedList<Class<?>> stack, Class<?> clazz) {
+                return stack.contains(clazz);
+            }
+
+            @Override
+            protected Parameter field2parameter(boolean input, Object instance, Field field,
+                                                Map<TypeVariable<?>, Type> variables, LinkedList<Class<?>> stack) {
+                Parameter parameter = super.field2parameter(input, instance, field, variables, stack);
+                parameter.setDescription(String.valueOf(stack.size()));
+                return parameter;
+            }
+        };
+        Parameter returned = analyser.getReturned();
+        Parameter child = getParameter(returned.getFields(), "child");
+        Assert.assertTrue(child.isTruncated());
+        Assert.assertNull(child.getFields());
+        Assert.assertEquals("1", child.getDescription());
+        Parameter leaf = getParameter(returned.getFields(), "leaf");
+        Assert.assertEquals("2", getParameter(leaf.getFields(), "value").getDescription());
+    }
+}
@@ -0,0 +1,144 @@
+package com.arsframework.apidoc.core;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * Request mapping information tests
+ *
+ * @author Woody
+ */
+public class RequestMappingInfoTest {
+    /**
+     * Upload model of tests
+     */
+    private static class Upload {
+        /**
+         * Upload file
+         */
+        private MultipartFile file;
+    }
+
+    /**
+     * Controller of tests
+     */
+    @RequestMapping({"", "/users"})
+    private static class UserController {
+        @GetMapping({"/{id}", " ", "detail/{id}"})
+        public String get(Long id) {
+            return null;
+        }
+
+        @PostMapping("add")
+        public void add(@RequestBody String user) {
+        }
+
+        @RequestMapping(value = "upload", method = {RequestMethod.POST, RequestMethod.PUT})
+        public void upload(MultipartFile file) {
+        }
+
+        @PostMapping(path = "import")
+        public void load(Upload upload) {
+        }
+
+        @PostMapping("clear")
+        public void clear() {
+        }
+
+        @PostMapping
+        public void reset() {
+        }
+
+        public void query(String name) {
+        }
+    }
+
+    /**
+     * Rest controller of tests
+     */
+    @RestController("api")
+    @RequestMapping("ignored")
+    private static class ApiController {
+        @GetMapping("/status")
+        public String status() {
+            return null;
+        }
+    }
+
+    /**
+     * Get request mapping information of controller method
+     *
+     * @param controller Controller class
+     * @param name       Method name
+     * @return Request mapping information
+     */
+    private static RequestMappingInfo getInfo(Class<?> controller, String name) {
+        for (Method method : controller.getDeclaredMethods()) {
+            if (method.getName().equals(name)) {
+                return RequestMappingInfo.of(method);
+            }
+        }
+        throw new IllegalArgumentException("Method not found: " + name);
+    }
+
+    @Test
+    public void testUris() {
+        RequestMappingInfo info = getInfo(UserController.class, "get");
+        Assert.assertEquals("/users/{id}", info.getUri());
+        Assert.assertEquals(Arrays.asList("/users/{id}", "/users/detail/{id}"), info.getUris());
+        Assert.assertEquals(EnumSet.of(RequestMethod.GET), info.getMethods());
+        Assert.assertEquals(RequestMappingInfo.FORM_MODE, info.getMode());
+        Assert.assertFalse(info.isBody());
+        Assert.assertFalse(info.isMultipart());
+        Assert.assertSame(info, getInfo(UserController.class, "get"));
+
+        info = getInfo(UserController.class, "query");
+        Assert.assertEquals("/users", info.getUri());
+        Assert.assertEquals(Collections.singletonList("/users"), info.getUris());
+        Assert.assertEquals(EnumSet.allOf(RequestMethod.class), info.getMethods());
+
+        info = getInfo(UserController.class, "reset");
+        Assert.assertEquals("/users", info.getUri());
+        Assert.assertEquals(EnumSet.allOf(RequestMethod.class), info.getMethods());
+        Assert.assertEquals(RequestMappingInfo.FORM_MODE, info.getMode());
+
+        info = getInfo(ApiController.class, "status");
+        Assert.assertEquals("/api/status", info.getUri());
+    }
+
+    @Test
+    public void testModes() {
+        RequestMappingInfo info = getInfo(UserController.class, "add");
+        Assert.assertEquals("/users/add", info.getUri());
+        Assert.assertEquals(EnumSet.of(RequestMethod.POST), info.getMethods());
+        Assert.assertEquals(RequestMappingInfo.JSON_MODE, info.getMode());
+        Assert.assertTrue(info.isBody());
+
+        info = getInfo(UserController.class, "upload");
+        Assert.assertEquals("/users/upload", info.getUri());
+        Assert.assertEquals(EnumSet.of(RequestMethod.POST, RequestMethod.PUT), info.getMethods());
+        Assert.assertEquals(RequestMappingInfo.MULTIPART_MODE, info.getMode());
+        Assert.assertTrue(info.isMultipart());
+
+        info = getInfo(UserController.class, "load");
+        Assert.assertEquals("/users/import", info.getUri());
+        Assert.assertEquals(RequestMappingInfo.MULTIPART_MODE, info.getMode());
+        Assert.assertFalse(info.isBody());
+
+        info = getInfo(UserController.class, "clear");
+        Assert.assertEquals(RequestMappingInfo.JSON_MODE, info.getMode());
+        Assert.assertFalse(info.isMultipart());
+    }
+}
@@ -0,0 +1,76 @@
+package com.arsframework.apidoc.core;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Schema cache tests
+ *
+ * @author Woody
+ */
+public class SchemaCacheTest {
+    /**
+     * Configuration of tests
+     */
+    private static final Configuration CONFIGURATION = Configuration.builder().build();
+
+    /**
+     * Build schema key
+     *
+     * @param target Target class
+     * @return Schema key
+     */
+    private static SchemaCache.Key buildKey(Class<?> target) {
+        return new SchemaCache.Key(ParameterAnalyser.class, CONFIGURATION, null, target, null, true, false);
+    }
+
+    /**
+     * Build parameter fields
+     *
+     * @return Parameter field list
+     */
+    private static List<Parameter> buildFields() {
+        Parameter leaf = Parameter.builder().name("leaf").type(String.class).build();
+        Parameter child = Parameter.builder().name("child").type(Object.class).fields(Collections.singletonList(leaf))
+                .build();
+        return Arrays.asList(Parameter.builder().name("name").type(String.class).build(), child);
+    }
+
+    @Test
+    public void testEviction() {
+        SchemaCache cache = new SchemaCache(2);
+        cache.put(buildKey(String.class), buildFields());
+        cache.put(buildKey(Integer.class), buildFields());
+        Assert.assertNotNull(cache.get(buildKey(String.class)));
+        cache.put(buildKey(Long.class), buildFields());
+        Assert.assertEquals(2, cache.getSize());
+        Assert.assertNotNull(cache.get(buildKey(String.class)));
+        Assert.assertNull(cache.get(buildKey(Integer.class)));
+        Assert.assertNotNull(cache.get(buildKey(Long.class)));
+    }
+
+    @Test
+    public void testSchemaCounts() {
+        SchemaCache cache = new SchemaCache();
+        cache.put(buildKey(String.class), buildFields());
+        SchemaCache.Schema schema = cache.getSchema(buildKey(String.class), null);
+        Assert.assertEquals(3, schema.getNodes());
+        Assert.assertEquals(2, schema.getDepth());
+        Assert.assertTrue(schema.getFields() != schema.getFields());
+        Assert.assertEquals(buildFields(), schema.getFields());
+    }
+
+    @Test
+    public void testInvalidCapacity() {
+        try {
+            new SchemaCache(0);
+            Assert.fail("Invalid capacity is accepted");
+        } catch (IllegalArgumentException e) {
+            Assert.assertEquals("Invalid capacity: 0", e.getMessage());
+        }
+    }
+}
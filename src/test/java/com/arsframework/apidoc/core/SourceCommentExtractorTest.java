@@ -0,0 +1,191 @@
+package com.arsframework.apidoc.core;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Source comment extractor fixture tests
+ *
+ * @author Woody
+ */
+public class SourceCommentExtractorTest {
+    /**
+     * Extract class comments of source lines
+     *
+     * @param lines Source lines
+     * @return Binary class name and comment mappings
+     */
+    private static Map<String, ClassComment> extract(String... lines) {
+        return SourceCommentExtractor.extract(String.join("\n", lines));
+    }
+
+    @Test
+    public void testGenerics() {
+        Map<String, ClassComment> classes = extract(
+                "package com.example;",
+                "import java.util.List;",
+                "import java.util.Map;",
+                "/**",
+                " * Generic page",
+                " *",
+                " * @param <T> item type",
+                " * @author tester",
+                " */",
+                "public class Page<T extends Comparable<? super T>, M extends Map<String, List<T>>>",
+                "        extends Base<Page<T, M>> implements Cloneable {",
+                "    /** Items */",
+                "    private List<? extends T>[] items;",
+                "    /** Generic lookup",
+                "     * @param key the key",
+                "     * @return found */",
+                "    public <K extends Number> T lookup(K key, Map<String, List<T>> values) {",
+                "        return null;",
+                "    }",
+                "    /** Bounded mapping */",
+                "    public M mapping(M mapping, T[] values) { return mapping; }",
+                "}");
+        ClassComment page = classes.get("com.example.Page");
+        Assert.assertNotNull(page);
+        Assert.assertEquals("Generic page", page.getComment().getText());
+        Assert.assertEquals(Collections.singletonList("tester"), page.getComment().getTags("@author"));
+        Assert.assertEquals("Items", page.getField("items").getText());
+        ParsedComment lookup = page.getMethods().get("lookup(Number,Map)");
+        Assert.assertNotNull(lookup);
+        Assert.assertEquals("Generic lookup", lookup.getOutline());
+        Assert.assertEquals("the key", lookup.getParameter("key"));
+        Assert.assertEquals("found", lookup.getTag("@return"));
+        Assert.assertEquals("Bounded mapping", page.getMethods().get("mapping(Map,Comparable[])").getText());
+    }
+
+    @Test
+    public void testVarargs() {
+        Map<String, ClassComment> classes = extract(
+                "package com.example;",
+                "/** Varargs holder */",
+                "public class Holder<T> {",
+                "    /** Join names */",
+                "    public String join(String separator, String... names) { return null; }",
+                "    /** Collect values */",
+                "    public final <V extends T> void collect(int[] counts, V... values) { }",
+                "}");
+        ClassComment holder = classes.get("com.example.Holder");
+        Assert.assertNotNull(holder);
+        Assert.assertEquals("Join names", holder.getMethods().get("join(String,String[])").getText());
+        Assert.assertEquals("Collect values", holder.getMethods().get("collect(int[],Object[])").getText());
+    }
+
+    @Test
+    public void testEnumBodies() {
+        Map<String, ClassComment> classes = extract(
+                "package com.example;",
+                "/** Kind of item */",
+                "public enum Kind {",
+                "    /** First kind */",
+                "    FIRST(\"a\") {",
+                "        /** Constant body */",
+                "        @Override",
+                "        String code() { return \"x\"; }",
+                "    },",
+                "    /** Second kind */",
+                "    @Deprecated SECOND(\"b\");",
+                "    /** Kind code */",
+                "    private final String value;",
+                "    Kind(String value) {",
+                "        this.value = value;",
+                "    }",
+                "    /** Get code */",
+                "    String code() {",
+                "        return this.value;",
+                "    }",
+                "}");
+        ClassComment kind = classes.get("com.example.Kind");
+        Assert.assertNotNull(kind);
+        Assert.assertEquals("Kind of item", kind.getComment().getText());
+        Assert.assertEquals("First kind", kind.getField("FIRST").getText());
+        Assert.assertEquals("Second kind", kind.getField("SECOND").getText());
+        Assert.assertEquals("Kind code", kind.getField("value").getText());
+        Assert.assertEquals("Get code", kind.getMethods().get("code()").getText());
+        Assert.assertEquals(1, classes.size());
+    }
+
+    @Test
+    public void testMultipleDeclarators() {
+        Map<String, ClassComment> classes = extract(
+                "package com.example;",
+                "public class Counter {",
+                "    /** Shared size and count */",
+                "    private int size = 1, count = size > 0 ? new int[]{1, 2}.length : 0, total;",
+                "    /** Matrix */",
+                "    private long[] rows, columns[];",
+                "}");
+        ClassComment counter = classes.get("com.example.Counter");
+        Assert.assertNotNull(counter);
+        for (String name : Arrays.asList("size", "count", "total")) {
+            Assert.assertEquals("Shared size and count", counter.getField(name).getText());
+        }
+        Assert.assertEquals("Matrix", counter.getField("rows").getText());
+        Assert.assertEquals("Matrix", counter.getField("columns").getText());
+        Assert.assertEquals(5, counter.getFields().size());
+    }
+
+    @Test
+    public void testInitializerBlocks() {
+        Map<String, ClassComment> classes = extract(
+                "package com.example;",
+                "public class Registry {",
+                "    /** Static initializer */",
+                "    static {",
+                "        /** Not a member */",
+                "        int ignored = 1;",
+                "    }",
+                "    /** Instance initializer */",
+                "    {",
+                "        Runnable runnable = new Runnable() {",
+                "            /** Anonymous member */",
+                "            public void run() { }",
+                "        };",
+                "    }",
+                "    /** Name */",
+                "    private String name;",
+                "    /** Register */",
+                "    public void register() {",
+                "        class Local {",
+                "            /** Local member */",
+                "            void local() { }",
+                "        }",
+                "    }",
+                "}");
+        ClassComment registry = classes.get("com.example.Registry");
+        Assert.assertNotNull(registry);
+        Assert.assertEquals(ParsedComment.EMPTY, registry.getComment());
+        Assert.assertEquals(Collections.singleton("name"), registry.getFields().keySet());
+        Assert.assertEquals("Name", registry.getField("name").getText());
+        Assert.assertEquals(Collections.singleton("register()"), registry.getMethods().keySet());
+        Assert.assertEquals("Register", registry.getMethods().get("register()").getText());
+        Assert.assertEquals(1, classes.size());
+    }
+
+    @Test
+    public void testNestedClasses() {
+        Map<String, ClassComment> classes = extract(
+                "package com.example;",
+                "public class Outer {",
+                "    /** Inner class */",
+                "    public static class Inner {",
+                "        /** Visitor */",
+                "        interface Visitor<R> {",
+                "            /** Visit */",
+                "            R visit(Outer.Inner inner);",
+                "        }",
+                "    }",
+                "}");
+        Assert.assertEquals("Inner class", classes.get("com.example.Outer$Inner").getComment().getText());
+        ClassComment visitor = classes.get("com.example.Outer$Inner$Visitor");
+        Assert.assertNotNull(visitor);
+        Assert.assertEquals("Visit", visitor.getMethods().get("visit(Inner)").getText());
+    }
+}
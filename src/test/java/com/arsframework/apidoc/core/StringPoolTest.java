@@ -0,0 +1,71 @@
+package com.arsframework.apidoc.core;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * String pool tests
+ *
+ * @author Woody
+ */
+public class StringPoolTest {
+    /**
+     * Build distinct string instance
+     *
+     * @param value String value
+     * @return String object
+     */
+    private static String copy(String value) {
+        return new String(value.toCharArray());
+    }
+
+    @Test
+    public void testIntern() {
+        StringPool pool = new StringPool();
+        String first = copy("name");
+        String second = copy("name");
+        Assert.assertSame(first, pool.intern(first));
+        Assert.assertSame(first, pool.intern(second));
+        Assert.assertSame(first, pool.intern(first));
+        Assert.assertNull(pool.intern((String) null));
+        Assert.assertEquals(1, pool.getSize());
+        Assert.assertEquals(48, pool.getSavedBytes());
+        List<String> values = pool.intern(Arrays.asList(copy("name"), null, copy("path")));
+        Assert.assertSame(first, values.get(0));
+        Assert.assertNull(values.get(1));
+        Assert.assertEquals(2, pool.getSize());
+        pool.clear();
+        Assert.assertEquals(0, pool.getSize());
+        Assert.assertEquals(0, pool.getSavedBytes());
+        Assert.assertSame(second, pool.intern(second));
+    }
+
+    @Test
+    public void testCanonicalize() {
+        StringPool pool = new StringPool();
+        Parameter field = Parameter.builder().name(copy("name")).format(copy("text")).build();
+        Parameter returned = Parameter.builder().name(copy("/")).fields(Collections.singletonList(field)).build();
+        Parameter parameter = Parameter.builder().name(copy("name")).format(copy("text")).entry(copy("query"))
+                .defaultValue(copy("text")).options(Collections.singletonList(
+                        Parameter.Option.builder().key(copy("query")).value(copy("name")).build())).build();
+        Api first = Api.builder().key(copy("first")).mode(copy("application/json"))
+                .authors(Collections.singletonList(copy("Woody"))).parameters(Collections.singletonList(parameter))
+                .returned(returned).build();
+        Api second = Api.builder().key(copy("second")).mode(copy("application/json"))
+                .authors(Collections.singletonList(copy("Woody"))).build();
+        pool.canonicalize(first, true);
+        pool.canonicalize(second, false);
+        Assert.assertSame(first.getMode(), second.getMode());
+        Assert.assertSame(first.getAuthors().get(0), second.getAuthors().get(0));
+        Assert.assertSame(field.getName(), parameter.getName());
+        Assert.assertSame(field.getFormat(), parameter.getFormat());
+        Assert.assertSame(field.getFormat(), parameter.getDefaultValue());
+        Assert.assertSame(parameter.getEntry(), parameter.getOptions().get(0).getKey());
+        Assert.assertSame(field.getName(), parameter.getOptions().get(0).getValue());
+        Assert.assertEquals("/", returned.getName());
+    }
+}
@@ -0,0 +1,101 @@
+package com.arsframework.apidoc.core;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * Type category tests
+ *
+ * @author Woody
+ */
+public class TypeCategoryTest {
+    /**
+     * Model of tests
+     */
+    private static class Model {
+    }
+
+    /**
+     * Sub model of tests
+     */
+    private static class SubModel extends Model {
+    }
+
+    @Test
+    public void testNumbers() {
+        TypeCategory category = TypeCategory.of(int.class);
+        Assert.assertTrue(category.isBasic());
+        Assert.assertTrue(category.isInt());
+        Assert.assertFalse(category.isFloat());
+        Assert.assertTrue(category.isMeta());
+        Assert.assertEquals(Integer.class, category.getType());
+        Assert.assertSame(category, TypeCategory.of(int.class));
+
+        category = TypeCategory.of(BigInteger.class);
+        Assert.assertFalse(category.isBasic());
+        Assert.assertTrue(category.isInt());
+        Assert.assertTrue(category.isMeta());
+        Assert.assertEquals(Long.class, category.getType());
+
+        category = TypeCategory.of(BigDecimal.class);
+        Assert.assertTrue(category.isFloat());
+        Assert.assertEquals(Double.class, category.getType());
+
+        category = TypeCategory.of(char.class);
+        Assert.assertTrue(category.isBasic());
+        Assert.assertFalse(category.isInt());
+        Assert.assertEquals(Character.class, category.getType());
+        Assert.assertEquals(Boolean.class, TypeCategory.of(Boolean.class).getType());
+    }
+
+    @Test
+    public void testMetaTypes() {
+        Assert.assertTrue(TypeCategory.of(Timestamp.class).isDate());
+        Assert.assertEquals(Date.class, TypeCategory.of(LocalDate.class).getType());
+        Assert.assertTrue(TypeCategory.of(MultipartFile.class).isStream());
+        Assert.assertEquals(File.class, TypeCategory.of(MultipartFile.class).getType());
+        Assert.assertEquals(Reader.class, TypeCategory.of(ByteArrayInputStream.class).getType());
+        Assert.assertEquals(Writer.class, TypeCategory.of(StringWriter.class).getType());
+        Assert.assertEquals(String.class, TypeCategory.of(StringBuilder.class).getType());
+        Assert.assertEquals(String.class, TypeCategory.of(TimeUnit.class).getType());
+        Assert.assertEquals(String.class, TypeCategory.of(Locale.class).getType());
+        Assert.assertEquals(String.class, TypeCategory.of(TimeZone.getDefault().getClass()).getType());
+        Assert.assertTrue(TypeCategory.of(HashMap.class).isMeta());
+        Assert.assertEquals(Object.class, TypeCategory.of(HashMap.class).getType());
+        Assert.assertTrue(TypeCategory.of(Object.class).isMeta());
+        Assert.assertFalse(TypeCategory.of(String.class).isBasic());
+        Assert.assertFalse(TypeCategory.of(Model.class).isMeta());
+        Assert.assertEquals(Object.class, TypeCategory.of(Model.class).getType());
+    }
+
+    @Test
+    public void testCustomType() {
+        Assert.assertFalse(TypeCategory.of(SubModel.class).isMeta());
+        TypeCategory.register(Model.class, String.class);
+        try {
+            Assert.assertTrue(TypeCategory.of(SubModel.class).isMeta());
+            Assert.assertEquals(String.class, TypeCategory.of(SubModel.class).getType());
+            Assert.assertEquals(String.class, TypeCategory.of(Model.class).getType());
+        } finally {
+            TypeCategory.unregister(Model.class);
+        }
+        Assert.assertFalse(TypeCategory.of(SubModel.class).isMeta());
+        Assert.assertEquals(Object.class, TypeCategory.of(SubModel.class).getType());
+    }
+}
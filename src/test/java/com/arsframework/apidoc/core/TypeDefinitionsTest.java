@@ -0,0 +1,99 @@
+package com.arsframework.apidoc.core;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Type definitions tests
+ *
+ * @author Woody
+ */
+public class TypeDefinitionsTest {
+    /**
+     * Model of tests
+     */
+    private static class Model {
+    }
+
+    /**
+     * Build model parameter
+     *
+     * @param name   Parameter name
+     * @param fields Field names
+     * @return Parameter object
+     */
+    private static Parameter buildModel(String name, String... fields) {
+        Parameter[] parameters = new Parameter[fields.length];
+        for (int i = 0; i < fields.length; i++) {
+            parameters[i] = Parameter.builder().type(String.class).name(fields[i]).build();
+        }
+        return Parameter.builder().type(Model.class).original(Model.class).name(name)
+                .fields(Arrays.asList(parameters)).build();
+    }
+
+    /**
+     * Build api
+     *
+     * @param key        Api key
+     * @param parameters Api parameters
+     * @return Api object
+     */
+    private static Api buildApi(String key, Parameter... parameters) {
+        return Api.builder().key(key).parameters(Arrays.asList(parameters))
+                .returned(buildModel("/", "id", "name")).build();
+    }
+
+    /**
+     * Get parameter names
+     *
+     * @param parameters Parameter objects
+     * @return Parameter names
+     */
+    private static List<String> getNames(List<Parameter> parameters) {
+        String[] names = new String[parameters.size()];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = parameters.get(i).getName();
+        }
+        return Arrays.asList(names);
+    }
+
+    @Test
+    public void testSharedDefinition() {
+        TypeDefinitions definitions = new TypeDefinitions();
+        Api first = buildApi("first", buildModel("model", "id", "name"));
+        Api reduced = definitions.reduce(first);
+        Api second = definitions.reduce(buildApi("second", buildModel("other", "id", "name")));
+        Assert.assertEquals(1, definitions.size());
+        String reference = Model.class.getName();
+        Assert.assertEquals(Arrays.asList("id", "name"), getNames(definitions.getDefinition(reference)));
+        for (Api api : Arrays.asList(reduced, second)) {
+            Assert.assertNull(api.getParameters().get(0).getFields());
+            Assert.assertEquals(reference, api.getParameters().get(0).getReference());
+            Assert.assertNull(api.getReturned().getFields());
+            Assert.assertEquals(reference, api.getReturned().getReference());
+        }
+        Assert.assertEquals("other", second.getParameters().get(0).getName());
+        Assert.assertNotNull(first.getParameters().get(0).getFields());
+        Assert.assertNull(first.getParameters().get(0).getReference());
+    }
+
+    @Test
+    public void testDistinctStructures() {
+        TypeDefinitions definitions = new TypeDefinitions();
+        Api api = definitions.reduce(buildApi("first", buildModel("model", "code")));
+        String reference = Model.class.getName();
+        Assert.assertEquals(2, definitions.size());
+        Assert.assertEquals(reference, api.getParameters().get(0).getReference());
+        Assert.assertEquals(reference + "#2", api.getReturned().getReference());
+        Assert.assertEquals(Collections.singletonList("code"), getNames(definitions.getDefinition(reference)));
+        Assert.assertEquals(Arrays.asList("id", "name"), getNames(definitions.getDefinition(reference + "#2")));
+        definitions.clear();
+        Assert.assertEquals(0, definitions.size());
+        Assert.assertEquals(reference, definitions.reduce(api.toBuilder().parameters(null)
+                .returned(buildModel("/", "id", "name")).build()).getReturned().getReference());
+    }
+}